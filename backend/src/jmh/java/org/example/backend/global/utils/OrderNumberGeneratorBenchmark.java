@@ -0,0 +1,32 @@
+package org.example.backend.global.utils;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+// 기존 RandomCodeGenerator 와 주문 번호 생성 비용 비교 (build.gradle 의 jmh.threads 로 동시 호출)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderNumberGeneratorBenchmark {
+    private final OrderNumberGenerator orderNumberGenerator = new OrderNumberGenerator(1);
+
+    @Benchmark
+    public long nextId() {
+        return orderNumberGenerator.nextId();
+    }
+
+    @Benchmark
+    public String generate() {
+        return orderNumberGenerator.generate();
+    }
+
+    @Benchmark
+    public String randomCode() {
+        return RandomCodeGenerator.generate(10);
+    }
+}
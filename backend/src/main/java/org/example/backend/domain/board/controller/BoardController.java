@@ -1,6 +1,8 @@
 package org.example.backend.domain.board.controller;
 
 import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.board.service.BoardAutocompleteIndex;
+import org.example.backend.domain.board.service.MainListSnapshotService;
 import org.example.backend.domain.board.service.ProductBoardService;
 import org.example.backend.global.common.constants.BaseResponse;
 import org.example.backend.global.common.constants.BaseResponseStatus;
@@ -14,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -33,27 +36,36 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/product-boards")
 public class BoardController {
 	private final ProductBoardService productBoardService;
+	private final MainListSnapshotService mainListSnapshotService;
+	private final BoardAutocompleteIndex boardAutocompleteIndex;
 	private final Integer MAIN_OPEN = 8;
 	private final Integer MAIN_READY = 12;
 	private final Integer USER_LIST_SIZE = 21;
 	private final Integer COMPANY_LIST_SIZE = 10;
+	private final Integer MAX_AUTOCOMPLETE_SIZE = 20;
 
 	@Operation(summary = "상품 메인 목록 조회 API")
 	@GetMapping(value = "/main/list")
-	public BaseResponse mainList(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestParam(value = "page", defaultValue = "1") Integer page,
+	public ResponseEntity<?> mainList(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestParam(value = "page", defaultValue = "1") Integer page,
 		@RequestParam(value = "status", defaultValue = "진행 전") String status) {
 		if (!isValidStatus(status)) {
-			return new BaseResponse(BaseResponseStatus.FAIL);
+			return ResponseEntity.ok(new BaseResponse(BaseResponseStatus.FAIL));
 		}
-		Slice<ProductBoardDto.BoardListResponse> responses;
 		Pageable pageable = getPageableByStatus(status, page);
+		Long userIdx = customUserDetails == null ? null : customUserDetails.getIdx();
+		byte[] snapshot = mainListSnapshotService.render(userIdx, status, pageable);
+		if (snapshot != null) {
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(snapshot);
+		}
+
+		Slice<ProductBoardDto.BoardListResponse> responses;
 		if (customUserDetails == null) {
 			responses = productBoardService.mainList(status, pageable);
 		 }
 		else {
 			responses = productBoardService.mainList(customUserDetails.getIdx(), status, pageable);
 		}
-		return new BaseResponse(responses);
+		return ResponseEntity.ok(new BaseResponse(responses));
 	}
 
 	@Operation(summary = "상품 게시글 목록 조회 API")
@@ -69,6 +81,12 @@ public class BoardController {
 		return new BaseResponse(boardListResponses);
 	}
 
+	@Operation(summary = "상품 게시글 검색어 자동완성 API")
+	@GetMapping(value = "/autocomplete")
+	public BaseResponse autocomplete(@RequestParam String keyword, @RequestParam(value = "size", defaultValue = "10") Integer size) {
+		return new BaseResponse(boardAutocompleteIndex.suggest(keyword, Math.max(1, Math.min(size, MAX_AUTOCOMPLETE_SIZE))));
+	}
+
 	@Operation(summary = "상품 게시글 상세 조회 API")
 	@GetMapping(value = "/{idx}/detail")
 	public BaseResponse detail(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable Long idx) {
@@ -78,6 +96,9 @@ public class BoardController {
 		} else {
 			response = productBoardService.detail(customUserDetails.getIdx(), idx);
 		}
+		if (response != null) {
+			boardAutocompleteIndex.recordView(idx);
+		}
 		return response == null ? new BaseResponse(BaseResponseStatus.FAIL) : new BaseResponse(response);
 	}
 
@@ -149,4 +149,29 @@ public class ProductBoardDto {
 		private LocalDateTime endedAt;
 		private String category;
 	}
+
+	// 게시글 검색 색인 (BoardSearchIndex) 대상
+	@Builder
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class SearchDocument {
+		private Long idx;
+		private String title;
+		private String companyName;
+		private String category;
+		private LocalDateTime startedAt;
+		private LocalDateTime endedAt;
+	}
+
+	// 자동완성 추천어 (판매자 이름이면 idx 없음)
+	@Builder
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class AutocompleteResponse {
+		private String text;
+		private String type;
+		private Long idx;
+	}
 }
@@ -24,9 +24,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,6 +40,12 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+// status 는 BoardStatusScheduler 가 시작 / 종료 시간에 맞춰 변경, 목록 조회는 (status, idx) 인덱스만 사용
+@Table(indexes = {
+	@Index(name = "idx_product_board_status", columnList = "status, idx"),
+	@Index(name = "idx_product_board_status_started", columnList = "status, startedAt"),
+	@Index(name = "idx_product_board_status_ended", columnList = "status, endedAt")
+})
 public class ProductBoard {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -0,0 +1,12 @@
+package org.example.backend.domain.board.model.event;
+
+import java.util.List;
+
+import org.example.backend.global.common.constants.BoardStatus;
+
+/**
+ * 게시글 상태 변경 이벤트 (BoardStatusScheduler 가 상태를 바꾼 뒤, 게시글 등록 시 READY 로 발행)
+ * 여러 서버에서 같은 게시글에 대해 발행될 수 있으므로 받는 쪽은 여러 번 처리해도 같은 결과가 되도록 처리
+ */
+public record BoardStatusChangedEvent(List<Long> boardIdxList, BoardStatus status) {
+}
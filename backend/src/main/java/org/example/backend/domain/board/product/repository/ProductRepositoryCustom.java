@@ -0,0 +1,10 @@
+package org.example.backend.domain.board.product.repository;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+    List<Long> decreaseStocks(Map<Long, Integer> quantities);
+
+    void increaseStocks(Map<Long, Integer> quantities);
+}
@@ -0,0 +1,49 @@
+package org.example.backend.domain.board.product.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+    private static final String DECREASE_STOCK_SQL = "UPDATE product SET stock = stock - ? WHERE idx = ? AND stock >= ?";
+    private static final String INCREASE_STOCK_SQL = "UPDATE product SET stock = stock + ? WHERE idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 주문 상품 전체의 재고를 한 번의 batch 로 차감하고, 재고가 부족해 차감되지 않은 상품 idx 를 반환
+     * 일부만 실패하면 호출한 쪽의 트랜잭션을 롤백해야 함
+     */
+    @Override
+    public List<Long> decreaseStocks(Map<Long, Integer> quantities) {
+        List<Long> productIdxList = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        new TreeMap<>(quantities).forEach((productIdx, quantity) -> { // 상품 idx 순으로 잠금
+            productIdxList.add(productIdx);
+            args.add(new Object[]{quantity, productIdx, quantity});
+        });
+
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, args);
+
+        List<Long> failed = new ArrayList<>();
+        for (int i = 0; i < updatedRows.length; i++) {
+            if (updatedRows[i] == 0) {
+                failed.add(productIdxList.get(i));
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        List<Object[]> args = new ArrayList<>();
+        new TreeMap<>(quantities).forEach((productIdx, quantity) -> args.add(new Object[]{quantity, productIdx}));
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, args);
+    }
+}
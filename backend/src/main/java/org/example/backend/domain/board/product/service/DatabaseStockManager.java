@@ -0,0 +1,64 @@
+package org.example.backend.domain.board.product.service;
+
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK;
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_FAIL_PRODUCT_NOT_FOUND;
+
+import java.util.List;
+import java.util.Map;
+
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * product 테이블을 기준으로 재고를 관리
+ * 주문 등록 시 주문 상품 행을 idx 순서로 조건부 UPDATE 하는 batch 한 번으로 차감하고 (UPDATE 가 idx 순서로 행을 잠가 교착 상태 없음),
+ * 결제 전에 실패/취소/만료된 주문은 차감한 재고를 다시 더함
+ * 여러 대의 서버가 같은 DB를 바라보는 환경에서 사용 (stock.mode: database)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.mode", havingValue = "database", matchIfMissing = true)
+public class DatabaseStockManager implements StockManager {
+	private final ProductRepository productRepository;
+
+	// 일부 상품만 차감된 채 끝나지 않도록 트랜잭션 밖(결제 시간 만료 주문의 재선점)에서 호출돼도 함께 롤백
+	@Override
+	@Transactional
+	public void reserve(Map<Long, Integer> quantities) {
+		List<Long> failed = productRepository.decreaseStocks(quantities); // 재고 수량 변경
+		if (!failed.isEmpty()) {
+			if (productRepository.findAllById(failed).size() != failed.size()) {
+				throw new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND); // 해당하는 상품을 찾을 수가 없을 때
+			}
+			log.info("[Faild] Stock decrease failed: lack of stock [product idx : {}]", failed);
+			throw new InvalidCustomException(ORDER_CREATE_FAIL_LACK_STOCK); // 재고 수량 없을 때
+		}
+	}
+
+	@Override
+	public void confirm(Map<Long, Integer> quantities) {
+		// 주문 등록 시 이미 차감했으므로 확정할 재고가 없음
+	}
+
+	@Override
+	public void release(Map<Long, Integer> quantities) {
+		productRepository.increaseStocks(quantities);
+	}
+
+	@Override
+	public void restore(Map<Long, Integer> quantities) {
+		productRepository.increaseStocks(quantities);
+	}
+
+	@Override
+	public boolean recover(Map<Long, Integer> quantities) {
+		return true; // 선점한 재고는 이미 DB에 반영되어 있음
+	}
+}
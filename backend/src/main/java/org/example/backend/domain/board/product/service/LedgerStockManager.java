@@ -0,0 +1,169 @@
+package org.example.backend.domain.board.product.service;
+
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK;
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_FAIL_PRODUCT_NOT_FOUND;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 애플리케이션 메모리에 상품별 재고 장부를 두고 원자적 카운터로 선점/확정
+ * - 카운터는 상품을 처음 주문할 때 Product.stock 값으로 초기화
+ * - 주문 처리 중에는 product 행을 잠그지 않고, 확정된 차감량만 모아서 주기적으로 DB에 반영
+ * - 장부는 DB 트랜잭션에 포함되지 않으므로, 트랜잭션 안에서 선점 / 확정했다가 롤백되면 장부를 되돌림
+ * 장부가 서버 메모리에 있으므로 단일 서버 배포에서만 사용 (stock.mode: ledger)
+ * 확정된 차감량은 종료 시 반영하므로 kill -9 처럼 @PreDestroy 가 실행되지 않는 배포에서는 사용하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.mode", havingValue = "ledger")
+public class LedgerStockManager implements StockManager {
+	private final ProductRepository productRepository;
+
+	// 주문 가능한 재고
+	private final Map<Long, AtomicInteger> available = new ConcurrentHashMap<>();
+	// 확정됐지만 아직 DB에 반영되지 않은 차감량 (음수면 복구량)
+	private final Map<Long, AtomicInteger> pending = new ConcurrentHashMap<>();
+
+	@Override
+	public void reserve(Map<Long, Integer> quantities) {
+		List<Map.Entry<Long, Integer>> reserved = new ArrayList<>();
+		for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+			if (!tryDecrease(counter(entry.getKey()), entry.getValue())) {
+				reserved.forEach(r -> counter(r.getKey()).addAndGet(r.getValue()));
+				throw new InvalidCustomException(ORDER_CREATE_FAIL_LACK_STOCK); // 재고 수량 없을 때
+			}
+			reserved.add(entry);
+		}
+		onRollback(() -> release(quantities));
+	}
+
+	@Override
+	public void confirm(Map<Long, Integer> quantities) {
+		quantities.forEach((productIdx, quantity) -> pendingOf(productIdx).addAndGet(quantity));
+		onRollback(() -> quantities.forEach((productIdx, quantity) -> pendingOf(productIdx).addAndGet(-quantity)));
+	}
+
+	@Override
+	public void release(Map<Long, Integer> quantities) {
+		quantities.forEach((productIdx, quantity) -> counter(productIdx).addAndGet(quantity));
+	}
+
+	@Override
+	public void restore(Map<Long, Integer> quantities) {
+		quantities.forEach((productIdx, quantity) -> {
+			counter(productIdx).addAndGet(quantity);
+			pendingOf(productIdx).addAndGet(-quantity);
+		});
+	}
+
+	@Override
+	public boolean recover(Map<Long, Integer> quantities) {
+		try {
+			reserve(quantities); // 장부는 DB 재고로 다시 초기화되므로 결제 대기 중인 선점을 다시 차감
+			return true;
+		} catch (InvalidCustomException e) {
+			return false;
+		}
+	}
+
+	public Integer getAvailable(Long productIdx) {
+		return counter(productIdx).get();
+	}
+
+	// 확정된 차감량을 product 테이블에 반영
+	@Transactional
+	@Scheduled(fixedDelayString = "${stock.ledger.flush-interval:1000}")
+	public void flush() {
+		Map<Long, Integer> decreases = new TreeMap<>();
+		Map<Long, Integer> increases = new TreeMap<>();
+		pending.forEach((productIdx, delta) -> {
+			int quantity = delta.getAndSet(0);
+			if (quantity > 0) {
+				decreases.put(productIdx, quantity);
+			} else if (quantity < 0) {
+				increases.put(productIdx, -quantity);
+			}
+		});
+		if (decreases.isEmpty() && increases.isEmpty()) {
+			return;
+		}
+
+		try {
+			if (!increases.isEmpty()) {
+				productRepository.increaseStocks(increases);
+			}
+			if (!decreases.isEmpty()) {
+				List<Long> failed = productRepository.decreaseStocks(decreases);
+				if (!failed.isEmpty()) { // 장부와 DB 재고가 어긋난 경우
+					log.warn("[Stock Ledger] Stock write back failed: lack of stock [product idx : {}]", failed);
+				}
+			}
+		} catch (RuntimeException e) {
+			decreases.forEach((productIdx, quantity) -> pendingOf(productIdx).addAndGet(quantity)); // 다음 주기에 다시 반영
+			increases.forEach((productIdx, quantity) -> pendingOf(productIdx).addAndGet(-quantity));
+			log.warn("[Stock Ledger] Failed to write back stock", e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	// 주문 저장 등이 실패해 트랜잭션이 롤백되면 선점 / 확정한 재고를 되돌림
+	private void onRollback(Runnable undo) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					undo.run();
+				}
+			}
+		});
+	}
+
+	private boolean tryDecrease(AtomicInteger counter, int quantity) {
+		while (true) {
+			int current = counter.get();
+			if (current < quantity) {
+				return false;
+			}
+			if (counter.compareAndSet(current, current - quantity)) {
+				return true;
+			}
+		}
+	}
+
+	private AtomicInteger counter(Long productIdx) {
+		return available.computeIfAbsent(productIdx, idx -> new AtomicInteger(
+			productRepository.findById(idx)
+				.orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND)) // 해당하는 상품을 찾을 수가 없을 때
+				.getStock()));
+	}
+
+	private AtomicInteger pendingOf(Long productIdx) {
+		return pending.computeIfAbsent(productIdx, idx -> new AtomicInteger());
+	}
+}
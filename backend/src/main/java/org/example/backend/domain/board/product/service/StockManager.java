@@ -0,0 +1,25 @@
+package org.example.backend.domain.board.product.service;
+
+import java.util.Map;
+
+/**
+ * 주문 흐름에서 상품 재고를 다루는 진입점
+ * key : 상품 idx, value : 수량
+ *
+ * reserve : 주문 등록 시 재고 선점 (부족하면 ORDER_CREATE_FAIL_LACK_STOCK)
+ * confirm : 결제 완료 시 선점한 재고를 확정
+ * release : 결제 전에 실패/취소된 주문의 선점 재고 반환
+ * restore : 주문 완료 후 취소된 주문의 재고 복구
+ * recover : 서버 재시작 후 아직 결제 대기 중인 주문의 선점을 다시 반영 (반영하지 못하면 false)
+ */
+public interface StockManager {
+	void reserve(Map<Long, Integer> quantities);
+
+	void confirm(Map<Long, Integer> quantities);
+
+	void release(Map<Long, Integer> quantities);
+
+	void restore(Map<Long, Integer> quantities);
+
+	boolean recover(Map<Long, Integer> quantities);
+}
@@ -1,5 +1,7 @@
 package org.example.backend.domain.board.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,6 +10,7 @@ import org.example.backend.domain.board.repository.querydsl.ProductBoardReposito
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ProductBoardRepository extends JpaRepository<ProductBoard, Long>, ProductBoardRepositoryCustom {
@@ -18,4 +21,23 @@ public interface ProductBoardRepository extends JpaRepository<ProductBoard, Long
 
 	@Query("SELECT pb FROM ProductBoard pb JOIN FETCH pb.category JOIN FETCH pb.productThumbnailImages WHERE pb.idx = :idx and pb.company.idx = :companyIdx")
 	Optional<ProductBoard> findByCompanyIdxAndIdx(Long companyIdx, Long idx);
+
+	// 상태 변경 시각 (status, startedAt / status, endedAt 인덱스)
+	@Query("SELECT DISTINCT pb.startedAt FROM ProductBoard pb WHERE pb.status = :status AND pb.startedAt <= :until")
+	List<LocalDateTime> findStartTimes(String status, LocalDateTime until);
+
+	@Query("SELECT DISTINCT pb.endedAt FROM ProductBoard pb WHERE pb.status IN :statuses AND pb.endedAt <= :until")
+	List<LocalDateTime> findEndTimes(Collection<String> statuses, LocalDateTime until);
+
+	// 시작 시간이 지난 게시글 (종료 시간이 지난 게시글은 제외)
+	@Query("SELECT pb.idx FROM ProductBoard pb WHERE pb.status = :status AND pb.startedAt <= :now AND pb.endedAt > :now")
+	List<Long> findIdxStartedBefore(String status, LocalDateTime now);
+
+	@Query("SELECT pb.idx FROM ProductBoard pb WHERE pb.status IN :statuses AND pb.endedAt <= :now")
+	List<Long> findIdxEndedBefore(Collection<String> statuses, LocalDateTime now);
+
+	// 다른 서버가 먼저 바꾼 게시글은 건너뜀
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE ProductBoard pb SET pb.status = :status WHERE pb.idx IN :idxList AND pb.status IN :fromStatuses")
+	int updateStatus(Collection<Long> idxList, Collection<String> fromStatuses, String status);
 }
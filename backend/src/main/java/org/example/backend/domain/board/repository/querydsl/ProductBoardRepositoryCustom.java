@@ -1,5 +1,9 @@
 package org.example.backend.domain.board.repository.querydsl;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
 import org.example.backend.domain.board.model.entity.ProductBoard;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,4 +13,7 @@ public interface ProductBoardRepositoryCustom {
 	Page<ProductBoard> search(String search, Pageable pageable);
 	Page<ProductBoard> companySearch(Long companyIdx, String status, Integer month, Pageable pageable);
 	Slice<ProductBoard> searchByStatus(String status, Pageable pageable);
+	List<ProductBoard> findAllWithProductsByIdxIn(List<Long> idxList);
+	List<ProductBoardDto.SearchDocument> findSearchDocuments(Long afterIdx, LocalDateTime endedAfter, int limit);
+	List<ProductBoardDto.SearchDocument> findSearchDocumentsByIdxIn(List<Long> idxList);
 }
@@ -1,9 +1,15 @@
 package org.example.backend.domain.board.repository.querydsl;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.example.backend.domain.board.category.model.entity.QCategory;
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
 import org.example.backend.domain.board.model.entity.ProductBoard;
 import org.example.backend.domain.board.model.entity.QProductBoard;
 import org.example.backend.domain.board.product.model.entity.QProduct;
@@ -11,16 +17,17 @@ import org.example.backend.domain.company.model.entity.QCompany;
 import org.example.backend.global.common.constants.BoardStatus;
 import org.example.backend.global.common.constants.CategoryType;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import jakarta.persistence.EntityManager;
@@ -44,24 +51,21 @@ public class ProductBoardRepositoryCustomImpl implements ProductBoardRepositoryC
 	@Override
 	public Page<ProductBoard> search(String search, Pageable pageable) {
 		Predicate condition = getCondition(search);
-		JPQLQuery<ProductBoard> query = queryFactory
-			.selectFrom(qProductBoard)
-			.leftJoin(qProductBoard.category, qCategory).fetchJoin()
-			.leftJoin(qProductBoard.company, qCompany).fetchJoin()
-			.leftJoin(qProductBoard.products, qProduct).fetchJoin()
-			.where(condition);
-
-		int total = queryFactory.selectFrom(qProductBoard)
+		List<Long> idxList = queryFactory
+			.select(qProductBoard.idx)
+			.from(qProductBoard)
 			.where(condition)
-			.fetch().size();
-
-		List<ProductBoard> result = query
 			.orderBy(qProductBoard.idx.desc())
 			.offset(pageable.getOffset())
 			.limit(pageable.getPageSize())
 			.fetch();
 
-		return new PageImpl<>(result, pageable, total);
+		JPAQuery<Long> countQuery = queryFactory
+			.select(qProductBoard.count())
+			.from(qProductBoard)
+			.where(condition);
+
+		return PageableExecutionUtils.getPage(findAllWithProductsByIdxIn(idxList), pageable, countQuery::fetchOne);
 	}
 
 	@Override
@@ -76,31 +80,86 @@ public class ProductBoardRepositoryCustomImpl implements ProductBoardRepositoryC
 			.limit(pageable.getPageSize())
 			.fetch();
 
-		int total = queryFactory.selectFrom(qProductBoard)
-			.where(condition)
-			.fetch().size();
+		JPAQuery<Long> countQuery = queryFactory
+			.select(qProductBoard.count())
+			.from(qProductBoard)
+			.where(condition);
 
-		return new PageImpl<>(result, pageable, total);
+		return PageableExecutionUtils.getPage(result, pageable, countQuery::fetchOne);
 	}
 
 	@Override
 	public Slice<ProductBoard> searchByStatus(String status, Pageable pageable) {
 		int pageSize = pageable.getPageSize();
-		List<ProductBoard> productBoards = queryFactory
-			.selectFrom(qProductBoard)
+		List<Long> idxList = queryFactory
+			.select(qProductBoard.idx)
+			.from(qProductBoard)
 			.where(qProductBoard.status.eq(status))
-			.leftJoin(qProductBoard.category, qCategory).fetchJoin()
-			.leftJoin(qProductBoard.company, qCompany).fetchJoin()
-			.leftJoin(qProductBoard.products, qProduct).fetchJoin()
+			.orderBy(qProductBoard.idx.desc())
 			.offset(pageable.getOffset())
 			.limit(pageSize + 1)
 			.fetch();
 		boolean hasNext = false;
-		if (productBoards.size() > pageSize) {
-			productBoards.remove(pageSize);
+		if (idxList.size() > pageSize) {
+			idxList = idxList.subList(0, pageSize);
 			hasNext = true;
 		}
-		return new SliceImpl<>(productBoards, pageable, hasNext);
+		return new SliceImpl<>(findAllWithProductsByIdxIn(idxList), pageable, hasNext);
+	}
+
+	// 페이지의 idx 만 먼저 조회한 뒤 카테고리 / 판매자 / 상품을 한 번에 조회
+	// (상품 컬렉션을 fetch join 한 쿼리에 offset / limit 을 걸면 전체 행을 읽어 메모리에서 페이징함)
+	@Override
+	public List<ProductBoard> findAllWithProductsByIdxIn(List<Long> idxList) {
+		if (idxList.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, ProductBoard> productBoards = queryFactory
+			.selectFrom(qProductBoard)
+			.leftJoin(qProductBoard.category, qCategory).fetchJoin()
+			.leftJoin(qProductBoard.company, qCompany).fetchJoin()
+			.leftJoin(qProductBoard.products, qProduct).fetchJoin()
+			.where(qProductBoard.idx.in(idxList))
+			.fetch().stream()
+			.collect(Collectors.toMap(ProductBoard::getIdx, Function.identity(), (first, duplicate) -> first));
+
+		// idx 조회 순서 유지
+		return idxList.stream()
+			.map(productBoards::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	// 종료되지 않은 게시글을 afterIdx 다음부터 idx 순서로 조회
+	@Override
+	public List<ProductBoardDto.SearchDocument> findSearchDocuments(Long afterIdx, LocalDateTime endedAfter, int limit) {
+		return selectSearchDocument()
+			.where(qProductBoard.idx.gt(afterIdx), qProductBoard.endedAt.after(endedAfter))
+			.orderBy(qProductBoard.idx.asc())
+			.limit(limit)
+			.fetch();
+	}
+
+	@Override
+	public List<ProductBoardDto.SearchDocument> findSearchDocumentsByIdxIn(List<Long> idxList) {
+		return selectSearchDocument()
+			.where(qProductBoard.idx.in(idxList))
+			.orderBy(qProductBoard.idx.asc())
+			.fetch();
+	}
+
+	private JPAQuery<ProductBoardDto.SearchDocument> selectSearchDocument() {
+		return queryFactory
+			.select(Projections.constructor(ProductBoardDto.SearchDocument.class,
+				qProductBoard.idx,
+				qProductBoard.title,
+				qCompany.companyName,
+				qCategory.name,
+				qProductBoard.startedAt,
+				qProductBoard.endedAt))
+			.from(qProductBoard)
+			.leftJoin(qProductBoard.company, qCompany)
+			.leftJoin(qProductBoard.category, qCategory);
 	}
 
 	// ---- 전체 사용자 ----
@@ -0,0 +1,318 @@
+package org.example.backend.domain.board.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 제목 / 판매자 이름 자동완성
+ * - 종료되지 않은 게시글의 제목과 판매자 이름을 단어 시작 위치마다 공백을 뺀 키로 트라이에 저장
+ *   ("여름 원피스" -> "여름원피스", "원피스")
+ * - 초성 검색 : 검색어의 자음(ㄱ ~ ㅎ)은 같은 초성의 글자와 일치 ("ㅇㅍㅅ", "원ㅍ")
+ * - 오타 : 3글자 이상이면 한 글자 다름 / 빠짐 / 더 들어감까지 허용, 정확히 일치한 추천어를 먼저 보여줌
+ * - 순서 : 오타 수 -> 최근 조회 수 (popularity-half-life 마다 절반으로 줄어듦) -> 짧은 추천어
+ * - 게시글은 BoardSearchDocumentLoader 가 채우고, rebuild-interval 마다 새로 만들어 종료된 게시글 정리
+ */
+@Slf4j
+@Service
+public class BoardAutocompleteIndex extends BoardDocumentIndex<BoardAutocompleteIndex.Index> {
+	private static final String TYPE_TITLE = "게시글";
+	private static final String TYPE_COMPANY = "판매자";
+	private static final char[] CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+	private static final int TYPO_MIN_LENGTH = 3;
+
+	private final int maxCandidates;
+	private final double halfLifeMillis;
+
+	// 최근 조회 수, key : 게시글 idx / 판매자 이름
+	private final Map<Long, Popularity> boardPopularity = new ConcurrentHashMap<>();
+	private final Map<String, Popularity> companyPopularity = new ConcurrentHashMap<>();
+
+	public BoardAutocompleteIndex(@Value("${board.autocomplete.max-candidates:200}") int maxCandidates,
+		@Value("${board.autocomplete.popularity-half-life:3600000}") long halfLifeMillis) {
+		this.maxCandidates = maxCandidates;
+		this.halfLifeMillis = halfLifeMillis;
+	}
+
+	public List<ProductBoardDto.AutocompleteResponse> suggest(String keyword, int size) {
+		Index current = index;
+		String query = compact(keyword);
+		if (current == null || query.isEmpty()) {
+			return List.of();
+		}
+
+		// 추천어 -> 오타 수, 정확히 일치하는 추천어를 먼저 모은 뒤 남은 자리만 오타 허용으로 채움
+		Map<Suggestion, Integer> candidates = new LinkedHashMap<>();
+		lock.readLock().lock();
+		try {
+			collect(current.root, query, 0, 0, 0, candidates);
+			if (query.length() >= TYPO_MIN_LENGTH && candidates.size() < maxCandidates) {
+				collect(current.root, query, 0, 0, 1, candidates);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		long nowMillis = System.currentTimeMillis();
+		Map<Suggestion, Double> scores = new HashMap<>();
+		candidates.keySet().forEach(suggestion -> scores.put(suggestion, popularity(suggestion, nowMillis)));
+		return candidates.entrySet().stream()
+			.filter(candidate -> candidate.getKey().isActive(now))
+			.sorted(Comparator.<Map.Entry<Suggestion, Integer>>comparingInt(Map.Entry::getValue)
+				.thenComparing(candidate -> scores.get(candidate.getKey()), Comparator.reverseOrder())
+				.thenComparingInt(candidate -> candidate.getKey().text.length()))
+			.limit(size)
+			.map(candidate -> candidate.getKey().toAutocompleteResponse())
+			.toList();
+	}
+
+	// 게시글 상세 조회 시 호출
+	public void recordView(Long boardIdx) {
+		Index current = index;
+		if (current == null) {
+			return;
+		}
+		Suggestion board = current.boards.get(boardIdx);
+		if (board == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		boardPopularity.computeIfAbsent(boardIdx, key -> new Popularity()).increment(now, halfLifeMillis);
+		if (board.companyName != null) {
+			companyPopularity.computeIfAbsent(board.companyName, key -> new Popularity()).increment(now, halfLifeMillis);
+		}
+	}
+
+	@Override
+	protected Index createIndex() {
+		return new Index();
+	}
+
+	@Override
+	protected void rebuilt(Index rebuilt) {
+		boardPopularity.keySet().retainAll(rebuilt.boards.keySet());
+		companyPopularity.keySet().retainAll(rebuilt.companies.keySet());
+		log.info("[Board Autocomplete] Index rebuilt [boards : {}, companies : {}]", rebuilt.boards.size(), rebuilt.companies.size());
+	}
+
+	private double popularity(Suggestion suggestion, long now) {
+		Popularity popularity = suggestion.boardIdx == null
+			? companyPopularity.get(suggestion.companyName)
+			: boardPopularity.get(suggestion.boardIdx);
+		return popularity == null ? 0 : popularity.get(now, halfLifeMillis);
+	}
+
+	private void collect(Node node, String query, int position, int edits, int maxEdits, Map<Suggestion, Integer> candidates) {
+		if (candidates.size() >= maxCandidates) {
+			return;
+		}
+		if (position == query.length()) {
+			collectAll(node, edits, candidates);
+			return;
+		}
+		char queryChar = query.charAt(position);
+		if (edits == maxEdits && !isChoseong(queryChar)) { // 정확히 일치하는 글자만 따라감
+			Node child = node.child(queryChar);
+			if (child != null) {
+				collect(child, query, position + 1, edits, maxEdits, candidates);
+			}
+			return;
+		}
+		for (int i = 0; i < node.keys.length; i++) {
+			if (matches(queryChar, node.keys[i])) {
+				collect(node.children[i], query, position + 1, edits, maxEdits, candidates);
+			} else if (edits < maxEdits) {
+				collect(node.children[i], query, position + 1, edits + 1, maxEdits, candidates); // 다른 글자
+			}
+			if (edits < maxEdits) {
+				collect(node.children[i], query, position, edits + 1, maxEdits, candidates); // 검색어에서 빠진 글자
+			}
+		}
+		if (edits < maxEdits) {
+			collect(node, query, position + 1, edits + 1, maxEdits, candidates); // 검색어에 더 들어간 글자
+		}
+	}
+
+	// 짧은 추천어부터 모음
+	private void collectAll(Node node, int edits, Map<Suggestion, Integer> candidates) {
+		Queue<Node> queue = new ArrayDeque<>();
+		queue.add(node);
+		while (!queue.isEmpty()) {
+			Node current = queue.poll();
+			for (Suggestion suggestion : current.suggestions) {
+				if (candidates.size() >= maxCandidates) {
+					return;
+				}
+				candidates.merge(suggestion, edits, Math::min);
+			}
+			queue.addAll(Arrays.asList(current.children));
+		}
+	}
+
+	private static boolean matches(char queryChar, char keyChar) {
+		return queryChar == keyChar || (isChoseong(queryChar) && choseong(keyChar) == queryChar);
+	}
+
+	private static boolean isChoseong(char c) {
+		return c >= 'ㄱ' && c <= 'ㅎ';
+	}
+
+	private static char choseong(char c) {
+		if (c < '가' || c > '힣') {
+			return c;
+		}
+		return CHOSEONG[(c - '가') / 588]; // 초성 하나당 중성 21 x 종성 28 글자
+	}
+
+	private static String compact(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT).replaceAll("\\s+", "");
+	}
+
+	static class Index implements Documents {
+		private final Node root = new Node();
+		// 추가는 쓰기 락 안에서, 조회는 락 없이 (recordView, rebuild 후 조회 수 정리)
+		private final Map<Long, Suggestion> boards = new ConcurrentHashMap<>();
+		private final Map<String, Suggestion> companies = new ConcurrentHashMap<>();
+
+		@Override
+		public void add(ProductBoardDto.SearchDocument document) {
+			if (document.getTitle() == null || boards.containsKey(document.getIdx())) {
+				return;
+			}
+			Suggestion board = new Suggestion(document.getTitle(), document.getIdx(), document.getCompanyName(), document.getEndedAt());
+			boards.put(document.getIdx(), board);
+			insert(board);
+
+			String companyName = document.getCompanyName();
+			if (companyName == null) {
+				return;
+			}
+			Suggestion company = companies.get(companyName);
+			if (company == null) {
+				company = new Suggestion(companyName, null, companyName, document.getEndedAt());
+				companies.put(companyName, company);
+				insert(company);
+			} else {
+				company.extend(document.getEndedAt());
+			}
+		}
+
+		// 단어가 시작하는 위치마다 저장
+		private void insert(Suggestion suggestion) {
+			String text = suggestion.text.toLowerCase(Locale.ROOT);
+			for (int i = 0; i < text.length(); i++) {
+				if (!Character.isWhitespace(text.charAt(i)) && (i == 0 || Character.isWhitespace(text.charAt(i - 1)))) {
+					root.insert(compact(text.substring(i)), suggestion);
+				}
+			}
+		}
+	}
+
+	// 자식을 글자 순서로 정렬한 배열로 저장
+	private static class Node {
+		private char[] keys = new char[0];
+		private Node[] children = new Node[0];
+		private Suggestion[] suggestions = new Suggestion[0];
+
+		Node child(char key) {
+			int position = Arrays.binarySearch(keys, key);
+			return position < 0 ? null : children[position];
+		}
+
+		void insert(String key, Suggestion suggestion) {
+			Node node = this;
+			for (int i = 0; i < key.length(); i++) {
+				node = node.childOrCreate(key.charAt(i));
+			}
+			for (Suggestion existing : node.suggestions) {
+				if (existing == suggestion) {
+					return;
+				}
+			}
+			node.suggestions = Arrays.copyOf(node.suggestions, node.suggestions.length + 1);
+			node.suggestions[node.suggestions.length - 1] = suggestion;
+		}
+
+		private Node childOrCreate(char key) {
+			int position = Arrays.binarySearch(keys, key);
+			if (position >= 0) {
+				return children[position];
+			}
+			position = -position - 1;
+			Node child = new Node();
+			char[] newKeys = new char[keys.length + 1];
+			Node[] newChildren = new Node[children.length + 1];
+			System.arraycopy(keys, 0, newKeys, 0, position);
+			System.arraycopy(children, 0, newChildren, 0, position);
+			newKeys[position] = key;
+			newChildren[position] = child;
+			System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+			System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+			keys = newKeys;
+			children = newChildren;
+			return child;
+		}
+	}
+
+	private static class Suggestion {
+		private final String text;
+		private final Long boardIdx; // 판매자 이름이면 null
+		private final String companyName;
+		private volatile LocalDateTime endedAt; // 판매자 이름은 가장 늦게 끝나는 게시글 기준
+
+		Suggestion(String text, Long boardIdx, String companyName, LocalDateTime endedAt) {
+			this.text = text;
+			this.boardIdx = boardIdx;
+			this.companyName = companyName;
+			this.endedAt = endedAt;
+		}
+
+		void extend(LocalDateTime endedAt) {
+			if (endedAt != null && (this.endedAt == null || endedAt.isAfter(this.endedAt))) {
+				this.endedAt = endedAt;
+			}
+		}
+
+		boolean isActive(LocalDateTime now) {
+			return endedAt == null || now.isBefore(endedAt);
+		}
+
+		ProductBoardDto.AutocompleteResponse toAutocompleteResponse() {
+			return ProductBoardDto.AutocompleteResponse.builder()
+				.text(text)
+				.type(boardIdx == null ? TYPE_COMPANY : TYPE_TITLE)
+				.idx(boardIdx)
+				.build();
+		}
+	}
+
+	// 시간이 지날수록 줄어드는 조회 수
+	private static class Popularity {
+		private double score;
+		private long updatedAt;
+
+		synchronized void increment(long now, double halfLifeMillis) {
+			score = get(now, halfLifeMillis) + 1;
+			updatedAt = now;
+		}
+
+		synchronized double get(long now, double halfLifeMillis) {
+			return score * Math.pow(0.5, (now - updatedAt) / halfLifeMillis);
+		}
+	}
+}
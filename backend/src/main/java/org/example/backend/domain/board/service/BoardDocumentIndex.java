@@ -0,0 +1,82 @@
+package org.example.backend.domain.board.service;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+
+/**
+ * 게시글 검색 문서를 서버 메모리에 올려 두는 색인 (BoardSearchIndex, BoardAutocompleteIndex)
+ * - 문서는 BoardSearchDocumentLoader 가 한 번 읽어서 모든 색인에 나눠 줌
+ * - 새로 만드는 동안은 기존 색인으로 조회하고, 다 채우면 교체
+ * - 색인 변경은 쓰기 락, 조회는 읽기 락 안에서 처리
+ */
+abstract class BoardDocumentIndex<I extends BoardDocumentIndex.Documents> {
+	protected final ReadWriteLock lock = new ReentrantReadWriteLock();
+	protected volatile I index; // 처음 만들기 전에는 null
+
+	protected abstract I createIndex();
+
+	// 새 색인으로 교체한 뒤 호출
+	protected void rebuilt(I rebuilt) {
+	}
+
+	// 새 게시글을 추가한 뒤 호출 (refresh-interval 마다)
+	protected void refreshed(I current) {
+	}
+
+	Rebuild startRebuild() {
+		I rebuilt = createIndex();
+		return new Rebuild() {
+			@Override
+			public void add(List<ProductBoardDto.SearchDocument> documents) {
+				BoardDocumentIndex.this.add(rebuilt, documents);
+			}
+
+			@Override
+			public void complete() {
+				index = rebuilt;
+				rebuilt(rebuilt);
+			}
+		};
+	}
+
+	// 색인을 만들기 전이면 무시 (다음 rebuild 에서 추가)
+	void add(List<ProductBoardDto.SearchDocument> documents) {
+		I current = index;
+		if (current != null) {
+			add(current, documents);
+		}
+	}
+
+	void refreshed() {
+		I current = index;
+		if (current != null) {
+			refreshed(current);
+		}
+	}
+
+	private void add(I target, List<ProductBoardDto.SearchDocument> documents) {
+		if (documents.isEmpty()) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			documents.forEach(target::add);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	interface Documents {
+		// 이미 있는 게시글이면 무시
+		void add(ProductBoardDto.SearchDocument document);
+	}
+
+	interface Rebuild {
+		void add(List<ProductBoardDto.SearchDocument> documents);
+
+		void complete();
+	}
+}
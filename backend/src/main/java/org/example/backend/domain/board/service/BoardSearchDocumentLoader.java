@@ -0,0 +1,84 @@
+package org.example.backend.domain.board.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 검색 / 자동완성 색인 (BoardDocumentIndex) 에 종료되지 않은 게시글을 채움
+ * - DB 에서 한 번 읽은 문서를 모든 색인에 나눠 줌
+ * - 등록된 게시글은 커밋 후 바로, 다른 서버에서 등록된 게시글은 refresh-interval 마다 추가
+ * - rebuild-interval 마다 색인을 새로 만들어 종료된 게시글 정리
+ */
+@Service
+public class BoardSearchDocumentLoader {
+	private final ProductBoardRepository productBoardRepository;
+	private final List<BoardDocumentIndex<?>> indexes;
+	private final int batchSize;
+	// 색인에 추가한 게시글 중 가장 큰 idx, refresh 는 이후 게시글만 불러옴
+	private final AtomicLong maxIdx = new AtomicLong();
+
+	public BoardSearchDocumentLoader(ProductBoardRepository productBoardRepository, List<BoardDocumentIndex<?>> indexes,
+		@Value("${board.search.batch-size:1000}") int batchSize) {
+		this.productBoardRepository = productBoardRepository;
+		this.indexes = indexes;
+		this.batchSize = batchSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${board.search.rebuild-interval:3600000}", initialDelayString = "${board.search.rebuild-interval:3600000}")
+	public void rebuild() {
+		List<BoardDocumentIndex.Rebuild> rebuilds = indexes.stream().map(BoardDocumentIndex::startRebuild).toList();
+		long loadedIdx = load(0L, documents -> rebuilds.forEach(rebuild -> rebuild.add(documents)));
+		rebuilds.forEach(BoardDocumentIndex.Rebuild::complete);
+		maxIdx.set(loadedIdx); // 새로 만드는 동안 등록된 게시글은 다음 refresh 에서 추가
+	}
+
+	@Scheduled(fixedDelayString = "${board.search.refresh-interval:10000}")
+	public void refresh() {
+		long loadedIdx = load(maxIdx.get(), this::add);
+		maxIdx.accumulateAndGet(loadedIdx, Math::max);
+		indexes.forEach(BoardDocumentIndex::refreshed);
+	}
+
+	// 등록된 게시글은 다음 refresh 를 기다리지 않고 바로 추가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBoardStatusChanged(BoardStatusChangedEvent event) {
+		if (event.status() != BoardStatus.READY) {
+			return;
+		}
+		List<ProductBoardDto.SearchDocument> documents = productBoardRepository.findSearchDocumentsByIdxIn(event.boardIdxList());
+		add(documents);
+		documents.forEach(document -> maxIdx.accumulateAndGet(document.getIdx(), Math::max));
+	}
+
+	private void add(List<ProductBoardDto.SearchDocument> documents) {
+		indexes.forEach(index -> index.add(documents));
+	}
+
+	// 마지막으로 불러온 게시글 idx 반환
+	private long load(long afterIdx, Consumer<List<ProductBoardDto.SearchDocument>> consumer) {
+		LocalDateTime now = LocalDateTime.now();
+		List<ProductBoardDto.SearchDocument> documents;
+		do {
+			documents = productBoardRepository.findSearchDocuments(afterIdx, now, batchSize);
+			consumer.accept(documents);
+			if (!documents.isEmpty()) {
+				afterIdx = documents.get(documents.size() - 1).getIdx();
+			}
+		} while (documents.size() == batchSize);
+		return afterIdx;
+	}
+}
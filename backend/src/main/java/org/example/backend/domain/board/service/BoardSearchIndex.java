@@ -0,0 +1,253 @@
+package org.example.backend.domain.board.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.example.backend.global.common.constants.CategoryType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 검색 색인 (제목 / 판매자 이름 / 카테고리)
+ * MariaDB FULLTEXT 는 ngram 파서가 없어 한글 부분 검색이 안 되므로 서버 메모리에 글자 단위 역색인을 둠
+ * - 1글자 / 2글자(bigram) 조각별로 게시글 idx 를 정렬해서 저장하고,
+ *   검색어 조각 중 게시글이 가장 적은 조각만 순회하면서 나머지 조각 포함 여부와 실제 포함 여부를 확인
+ * - 종료되지 않은 게시글만 색인, 상태는 시작 / 종료 시간으로 계산 (BoardStatusScheduler 와 같은 기준)
+ * - 점수 : 제목 4 (제목이 검색어로 시작하면 +2), 판매자 이름 2, 카테고리 1 / 같은 점수는 최신순
+ * - 게시글은 BoardSearchDocumentLoader 가 채움, 종료된 게시글은 refresh 마다 제거하고
+ *   남은 조각은 rebuild-interval 마다 색인을 새로 만들어 정리
+ */
+@Slf4j
+@Service
+public class BoardSearchIndex extends BoardDocumentIndex<BoardSearchIndex.Index> {
+	private static final Set<String> CATEGORY_KEYWORDS = Arrays.stream(CategoryType.values())
+		.map(CategoryType::getType)
+		.collect(Collectors.toUnmodifiableSet());
+
+	private final int maxResults;
+
+	public BoardSearchIndex(@Value("${board.search.max-results:1000}") int maxResults) {
+		this.maxResults = maxResults;
+	}
+
+	// 색인을 만들기 전이면 empty (DB 검색 사용), 결과는 점수 순서의 게시글 idx (최대 max-results 개)
+	public Optional<List<Long>> search(String search, LocalDateTime now) {
+		Index current = index;
+		String query = normalize(search);
+		if (current == null || query.isEmpty()) {
+			return Optional.empty();
+		}
+		// 카테고리 이름으로 검색하면 진행 중 게시글만 (ProductBoardRepositoryCustomImpl.getCondition 과 같은 조건)
+		Set<BoardStatus> statuses = CATEGORY_KEYWORDS.contains(search)
+			? EnumSet.of(BoardStatus.OPEN)
+			: EnumSet.of(BoardStatus.READY, BoardStatus.OPEN);
+
+		List<Match> matches;
+		lock.readLock().lock();
+		try {
+			matches = current.search(query, statuses, now);
+		} finally {
+			lock.readLock().unlock();
+		}
+		return Optional.of(matches.stream()
+			.sorted(Comparator.comparingInt(Match::score).reversed().thenComparing(Comparator.comparingLong(Match::idx).reversed()))
+			.limit(maxResults)
+			.map(Match::idx)
+			.toList());
+	}
+
+	@Override
+	protected Index createIndex() {
+		return new Index();
+	}
+
+	@Override
+	protected void rebuilt(Index rebuilt) {
+		int size;
+		lock.readLock().lock(); // 교체 후에는 등록된 게시글이 바로 추가될 수 있음
+		try {
+			size = rebuilt.documents.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+		log.info("[Board Search] Index rebuilt [documents : {}]", size);
+	}
+
+	@Override
+	protected void refreshed(Index current) {
+		lock.writeLock().lock();
+		try {
+			current.prune(LocalDateTime.now());
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static String normalize(String text) {
+		return text == null ? "" : text.toLowerCase(Locale.ROOT);
+	}
+
+	// 1글자 검색어는 1글자 조각, 그 외에는 2글자 조각
+	private static Set<String> queryGrams(String query) {
+		if (query.length() == 1) {
+			return Set.of(query);
+		}
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i < query.length() - 1; i++) {
+			grams.add(query.substring(i, i + 2));
+		}
+		return grams;
+	}
+
+	static class Index implements Documents {
+		private final Map<Long, Document> documents = new HashMap<>();
+		private final Map<String, Postings> postings = new HashMap<>();
+
+		@Override
+		public void add(ProductBoardDto.SearchDocument source) {
+			if (documents.containsKey(source.getIdx())) {
+				return;
+			}
+			Document document = new Document(source.getIdx(), normalize(source.getTitle()), normalize(source.getCompanyName()),
+				normalize(source.getCategory()), source.getStartedAt(), source.getEndedAt());
+			documents.put(document.idx(), document);
+			for (String gram : document.grams()) {
+				postings.computeIfAbsent(gram, key -> new Postings()).add(document.idx());
+			}
+		}
+
+		// 종료된 게시글 제거, 조각에 남은 idx 는 검색 시 건너뛰고 다음 rebuild 에서 정리
+		void prune(LocalDateTime now) {
+			documents.values().removeIf(document -> document.status(now) == BoardStatus.DONE);
+		}
+
+		List<Match> search(String query, Set<BoardStatus> statuses, LocalDateTime now) {
+			List<Postings> lists = new ArrayList<>();
+			for (String gram : queryGrams(query)) {
+				Postings list = postings.get(gram);
+				if (list == null) {
+					return List.of();
+				}
+				lists.add(list);
+			}
+			lists.sort(Comparator.comparingInt(Postings::size));
+
+			List<Match> matches = new ArrayList<>();
+			Postings smallest = lists.get(0);
+			for (int i = 0; i < smallest.size(); i++) {
+				long idx = smallest.get(i);
+				if (!containsAll(lists, idx)) {
+					continue;
+				}
+				Document document = documents.get(idx);
+				if (document == null || !statuses.contains(document.status(now))) {
+					continue;
+				}
+				int score = document.score(query);
+				if (score > 0) {
+					matches.add(new Match(idx, score));
+				}
+			}
+			return matches;
+		}
+
+		private static boolean containsAll(List<Postings> lists, long idx) {
+			for (int i = 1; i < lists.size(); i++) {
+				if (!lists.get(i).contains(idx)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	// 조각이 들어 있는 게시글 idx (오름차순)
+	private static class Postings {
+		private long[] idxList = new long[4];
+		private int size;
+
+		void add(long idx) {
+			int position = size;
+			if (size > 0 && idxList[size - 1] >= idx) { // 다른 서버에서 등록된 게시글이 늦게 추가된 경우
+				position = Arrays.binarySearch(idxList, 0, size, idx);
+				if (position >= 0) {
+					return;
+				}
+				position = -position - 1;
+			}
+			if (size == idxList.length) {
+				idxList = Arrays.copyOf(idxList, size * 2);
+			}
+			System.arraycopy(idxList, position, idxList, position + 1, size - position);
+			idxList[position] = idx;
+			size++;
+		}
+
+		boolean contains(long idx) {
+			return Arrays.binarySearch(idxList, 0, size, idx) >= 0;
+		}
+
+		long get(int index) {
+			return idxList[index];
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	private record Document(long idx, String title, String companyName, String category,
+							LocalDateTime startedAt, LocalDateTime endedAt) {
+		BoardStatus status(LocalDateTime now) {
+			if (startedAt != null && now.isBefore(startedAt)) {
+				return BoardStatus.READY;
+			}
+			return endedAt == null || now.isBefore(endedAt) ? BoardStatus.OPEN : BoardStatus.DONE;
+		}
+
+		int score(String query) {
+			int score = 0;
+			if (title.contains(query)) {
+				score += title.startsWith(query) ? 6 : 4;
+			}
+			if (companyName.contains(query)) {
+				score += 2;
+			}
+			if (category.contains(query)) {
+				score += 1;
+			}
+			return score;
+		}
+
+		Set<String> grams() {
+			Set<String> grams = new HashSet<>();
+			for (String field : List.of(title, companyName, category)) {
+				for (int i = 0; i < field.length(); i++) {
+					grams.add(field.substring(i, i + 1));
+					if (i + 1 < field.length()) {
+						grams.add(field.substring(i, i + 2));
+					}
+				}
+			}
+			return grams;
+		}
+	}
+
+	private record Match(long idx, int score) {
+	}
+}
@@ -0,0 +1,128 @@
+package org.example.backend.domain.board.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.example.backend.global.utils.TimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 상태(진행 전 -> 진행 중 -> 진행 완료)를 시작 / 종료 시간에 맞춰 변경
+ * - 앞으로 horizon(reload-interval 의 2배) 안에 있는 시작 / 종료 시각을 타이밍 휠에 예약하고,
+ *   그 시각이 되면 시간이 지난 게시글을 한 번에 UPDATE (같은 초의 시각은 예약 하나로 처리)
+ * - 서버 시작 시와 reload-interval 마다 다시 불러오고, 서버가 내려가 있던 동안 지난 시각은 바로 처리
+ * - 상태를 바꾼 게시글과 새로 등록된 게시글은 BoardStatusChangedEvent 로 알림 (상태 변경은 커밋 후 발행)
+ * - 여러 서버에서 실행해도 현재 상태를 조건으로 UPDATE 하므로 결과는 같음
+ */
+@Slf4j
+@Service
+public class BoardStatusScheduler {
+	private static final List<String> NOT_DONE = List.of(BoardStatus.READY.getStatus(), BoardStatus.OPEN.getStatus());
+
+	private final ProductBoardRepository productBoardRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final Duration horizon;
+	private final TimingWheel<LocalDateTime> timingWheel;
+
+	// 타이밍 휠에 예약된 시각
+	private final Set<LocalDateTime> scheduled = ConcurrentHashMap.newKeySet();
+
+	public BoardStatusScheduler(ProductBoardRepository productBoardRepository, ApplicationEventPublisher eventPublisher,
+		PlatformTransactionManager transactionManager,
+		@Value("${board.status.reload-interval:3600000}") long reloadIntervalMillis) {
+		this.productBoardRepository = productBoardRepository;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.horizon = Duration.ofMillis(reloadIntervalMillis).multipliedBy(2);
+		this.timingWheel = new TimingWheel<>("board-status-timer", Duration.ofSeconds(1), 3600, this::onBoundary);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${board.status.reload-interval:3600000}", initialDelayString = "${board.status.reload-interval:3600000}")
+	public void reload() {
+		LocalDateTime until = LocalDateTime.now().plus(horizon);
+		List<LocalDateTime> boundaries = new ArrayList<>(productBoardRepository.findStartTimes(BoardStatus.READY.getStatus(), until));
+		boundaries.addAll(productBoardRepository.findEndTimes(NOT_DONE, until));
+		boundaries.forEach(this::schedule);
+		log.info("[Board Status] Scheduled status changes [count : {}]", scheduled.size());
+	}
+
+	// 게시글 등록 시 호출, 진행 전 게시글이 추가된 것을 알리고 horizon 이후의 시각은 다음 reload 에서 예약
+	public void register(ProductBoard productBoard) {
+		LocalDateTime until = LocalDateTime.now().plus(horizon);
+		Stream.of(productBoard.getStartedAt(), productBoard.getEndedAt())
+			.filter(boundary -> boundary != null && !boundary.isAfter(until))
+			.forEach(this::schedule);
+		eventPublisher.publishEvent(new BoardStatusChangedEvent(List.of(productBoard.getIdx()), BoardStatus.READY));
+	}
+
+	// 시작 / 종료 시간이 지난 게시글의 상태 변경, 종료를 먼저 처리해서 이미 끝난 게시글은 진행 중을 거치지 않음
+	public void transition(LocalDateTime now) {
+		List<BoardStatusChangedEvent> events = transactionTemplate.execute(status -> List.of(
+			changeStatus(productBoardRepository.findIdxEndedBefore(NOT_DONE, now), NOT_DONE, BoardStatus.DONE),
+			changeStatus(productBoardRepository.findIdxStartedBefore(BoardStatus.READY.getStatus(), now),
+				List.of(BoardStatus.READY.getStatus()), BoardStatus.OPEN)
+		));
+
+		for (BoardStatusChangedEvent event : events) {
+			if (event.boardIdxList().isEmpty()) {
+				continue;
+			}
+			log.info("[Board Status] Status changed [{}][boards : {}]", event.status().getStatus(), event.boardIdxList());
+			try {
+				eventPublisher.publishEvent(event);
+			} catch (RuntimeException e) {
+				log.warn("[Board Status] Event listener failed [{}]", event.status().getStatus(), e);
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		timingWheel.stop();
+	}
+
+	private BoardStatusChangedEvent changeStatus(List<Long> idxList, List<String> fromStatuses, BoardStatus status) {
+		if (!idxList.isEmpty()) {
+			productBoardRepository.updateStatus(idxList, fromStatuses, status.getStatus());
+		}
+		return new BoardStatusChangedEvent(idxList, status);
+	}
+
+	// 초 단위로 올림해서 예약, 휠이 깨어난 시점에는 항상 해당 시각이 지나 있음
+	private void schedule(LocalDateTime boundary) {
+		LocalDateTime second = boundary.truncatedTo(ChronoUnit.SECONDS);
+		if (second.isBefore(boundary)) {
+			second = second.plusSeconds(1);
+		}
+		if (scheduled.add(second)) {
+			timingWheel.schedule(second, Duration.between(LocalDateTime.now(), second));
+		}
+	}
+
+	private void onBoundary(List<LocalDateTime> boundaries) {
+		boundaries.forEach(scheduled::remove);
+		transition(LocalDateTime.now());
+	}
+}
@@ -0,0 +1,144 @@
+package org.example.backend.domain.board.service;
+
+import static java.nio.charset.StandardCharsets.*;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.likes.repository.LikesRepository;
+import org.example.backend.global.common.constants.BaseResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 메인 목록(/product-boards/main/list) 스냅샷
+ * - 상태 / 페이지별 응답을 JSON 바이트로 만들어 두고 요청 시 JPA 를 거치지 않고 그대로 응답
+ * - 게시글 등록 / 상태 변경 후와 refresh-interval 마다 만들어 둔 스냅샷을 다시 만듦
+ * - 로그인 사용자는 좋아요한 게시글만 한 번에 조회해서 스냅샷의 "likes" 값만 바꿔 응답
+ * - max-pages 이후 페이지는 스냅샷 없이 목록 조회
+ */
+@Slf4j
+@Service
+public class MainListSnapshotService {
+	private static final byte[] LIKES_FALSE = "\"likes\":false".getBytes(UTF_8);
+	private static final byte[] LIKES_TRUE = "\"likes\":true".getBytes(UTF_8);
+
+	private final ProductBoardService productBoardService;
+	private final LikesRepository likesRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxPages;
+
+	private final Map<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	public MainListSnapshotService(ProductBoardService productBoardService, LikesRepository likesRepository,
+		ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+		@Value("${board.main-snapshot.max-pages:5}") int maxPages) {
+		this.productBoardService = productBoardService;
+		this.likesRepository = likesRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		this.maxPages = maxPages;
+	}
+
+	// 스냅샷 대상이 아닌 페이지는 null
+	public byte[] render(Long userIdx, String status, Pageable pageable) {
+		if (pageable.getPageNumber() >= maxPages) {
+			return null;
+		}
+		Snapshot snapshot = snapshots.computeIfAbsent(new SnapshotKey(status, pageable), this::build);
+		if (userIdx == null || snapshot.boardIdxList().isEmpty()) {
+			return snapshot.json();
+		}
+		Set<Long> liked = new HashSet<>(likesRepository.findLikedProductBoardIdx(userIdx, snapshot.boardIdxList()));
+		return snapshot.render(liked);
+	}
+
+	@Scheduled(fixedDelayString = "${board.main-snapshot.refresh-interval:5000}")
+	public void refresh() {
+		for (SnapshotKey key : snapshots.keySet()) {
+			try {
+				snapshots.put(key, build(key));
+			} catch (RuntimeException e) {
+				log.warn("[Main Snapshot] Refresh failed [{}][page : {}]", key.status(), key.pageable().getPageNumber() + 1, e);
+			}
+		}
+	}
+
+	// 게시글 등록은 커밋 후, 스케줄러의 상태 변경은 바로 실행
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBoardStatusChanged(BoardStatusChangedEvent event) {
+		refresh();
+	}
+
+	private Snapshot build(SnapshotKey key) {
+		Slice<ProductBoardDto.BoardListResponse> responses =
+			transactionTemplate.execute(status -> productBoardService.mainList(key.status(), key.pageable()));
+		byte[] json;
+		try {
+			json = objectMapper.writeValueAsBytes(new BaseResponse<>(responses));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("메인 목록 스냅샷 생성 실패", e);
+		}
+
+		List<Long> boardIdxList = responses.getContent().stream()
+			.map(ProductBoardDto.BoardListResponse::getIdx)
+			.toList();
+		List<byte[]> segments = split(json);
+		if (segments.size() != boardIdxList.size() + 1) {
+			throw new IllegalStateException("메인 목록 스냅샷의 likes 개수가 게시글 수와 다릅니다.");
+		}
+		return new Snapshot(json, segments, boardIdxList);
+	}
+
+	// "likes":false 를 기준으로 나눔, 문자열 값 안의 따옴표는 \" 로 이스케이프되어 있어서 겹치지 않음
+	private static List<byte[]> split(byte[] json) {
+		List<byte[]> segments = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i <= json.length - LIKES_FALSE.length; i++) {
+			if (Arrays.equals(json, i, i + LIKES_FALSE.length, LIKES_FALSE, 0, LIKES_FALSE.length)) {
+				segments.add(Arrays.copyOfRange(json, start, i));
+				start = i + LIKES_FALSE.length;
+				i = start - 1;
+			}
+		}
+		segments.add(Arrays.copyOfRange(json, start, json.length));
+		return segments;
+	}
+
+	private record SnapshotKey(String status, Pageable pageable) {
+	}
+
+	// 만든 뒤 변경하지 않음
+	private record Snapshot(byte[] json, List<byte[]> segments, List<Long> boardIdxList) {
+		byte[] render(Set<Long> liked) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream(json.length + boardIdxList.size());
+			for (int i = 0; i < boardIdxList.size(); i++) {
+				out.writeBytes(segments.get(i));
+				out.writeBytes(liked.contains(boardIdxList.get(i)) ? LIKES_TRUE : LIKES_FALSE);
+			}
+			out.writeBytes(segments.get(boardIdxList.size()));
+			return out.toByteArray();
+		}
+	}
+}
@@ -2,20 +2,10 @@ package org.example.backend.domain.board.service;
 
 import java.time.LocalDateTime;
 
-import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-
-import lombok.RequiredArgsConstructor;
-
-@Service
-@RequiredArgsConstructor
-public class ProductBoardQueueService {
-	private final RestTemplate restTemplate;
-
-	public Boolean createQueue(Long productBoardIdx, LocalDateTime endedAt) {
-		String url = "/queue/create?productBoardIdx=" + productBoardIdx + "&endedAt=" + endedAt;
-		ResponseEntity<Boolean> result = restTemplate.getForEntity(url, Boolean.class);
-		return result.getBody();
-	}
+/**
+ * 상품게시글 대기열 생성
+ * queue.mode 에 따라 외부 대기열 서버(remote) 또는 서버 내 대기열(embedded) 사용
+ */
+public interface ProductBoardQueueService {
+	Boolean createQueue(Long productBoardIdx, LocalDateTime endedAt);
 }
@@ -1,5 +1,6 @@
 package org.example.backend.domain.board.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.example.backend.domain.board.category.model.entity.Category;
@@ -17,6 +18,7 @@ import org.example.backend.global.common.constants.BoardStatus;
 import org.example.backend.global.exception.InvalidCustomException;
 import org.example.backend.global.infra.s3.uploader.ImageUploader;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
@@ -33,6 +35,8 @@ public class ProductBoardService {
 	private final ProductService productService;
 	private final ProductThumbnailImageService productThumbnailImageService;
 	private final ProductBoardQueueService productBoardQueueService;
+	private final BoardStatusScheduler boardStatusScheduler;
+	private final BoardSearchIndex boardSearchIndex;
 	private final ProductBoardRepository productBoardRepository;
 	private final ProductRepository productRepository;
 	private final CategoryRepository categoryRepository;
@@ -53,18 +57,34 @@ public class ProductBoardService {
 	}
 
 	public Page<ProductBoardDto.BoardListResponse> list(String search, Pageable pageable) {
-		Page<ProductBoard> productBoards = productBoardRepository.search(search, pageable);
+		Page<ProductBoard> productBoards = search(search, pageable);
 		return productBoards.map(ProductBoard::toBoardListResponse);
 	}
 
 	public Page<ProductBoardDto.BoardListResponse> list(Long userIdx, String search, Pageable pageable) {
-		Page<ProductBoard> productBoards = productBoardRepository.search(search, pageable);
+		Page<ProductBoard> productBoards = search(search, pageable);
 		return productBoards.map(productBoard -> {
 			boolean isLiked = likesRepository.existsByProductBoardIdxAndUserIdx(productBoard.getIdx(), userIdx);
 			return ProductBoard.toBoardListResponse(productBoard, isLiked);
 		});
 	}
 
+	// 검색어가 있으면 검색 색인에서 점수 순서로 찾은 idx 를 페이징
+	// 검색어가 없거나 "진행 전" 이면 상태 조건만으로 조회 (색인을 만들기 전에도 DB 에서 조회)
+	private Page<ProductBoard> search(String search, Pageable pageable) {
+		if (search == null || BoardStatus.READY.getStatus().equals(search)) {
+			return productBoardRepository.search(search, pageable);
+		}
+		return boardSearchIndex.search(search, LocalDateTime.now())
+			.map(idxList -> {
+				int from = (int)Math.min(pageable.getOffset(), idxList.size());
+				int to = Math.min(from + pageable.getPageSize(), idxList.size());
+				List<ProductBoard> productBoards = productBoardRepository.findAllWithProductsByIdxIn(idxList.subList(from, to));
+				return (Page<ProductBoard>)new PageImpl<>(productBoards, pageable, idxList.size());
+			})
+			.orElseGet(() -> productBoardRepository.search(search, pageable));
+	}
+
 	public ProductBoardDto.BoardDetailResponse detail(Long idx) {
 		ProductBoard productBoard = productBoardRepository.findByIdx(idx).orElseThrow(() -> new InvalidCustomException(BaseResponseStatus.PRODUCT_BOARD_DETAIL_FAIL));
 		List<ProductThumbnailImage> productThumbnailImages = productBoard.getProductThumbnailImages();
@@ -109,6 +129,7 @@ public class ProductBoardService {
 		if (!isCreated) {
 			throw new InvalidCustomException(BaseResponseStatus.PRODUCT_BOARD_QUEUE_CREATE_FAIL);
 		}
+		boardStatusScheduler.register(savedProductBoard);
 		return savedProductBoard;
 	}
 
@@ -0,0 +1,24 @@
+package org.example.backend.domain.board.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.mode", havingValue = "remote", matchIfMissing = true)
+public class RemoteProductBoardQueueService implements ProductBoardQueueService {
+	private final RestTemplate restTemplate;
+
+	@Override
+	public Boolean createQueue(Long productBoardIdx, LocalDateTime endedAt) {
+		String url = "/queue/create?productBoardIdx=" + productBoardIdx + "&endedAt=" + endedAt;
+		ResponseEntity<Boolean> result = restTemplate.getForEntity(url, Boolean.class);
+		return result.getBody();
+	}
+}
@@ -4,12 +4,12 @@ import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import jakarta.transaction.Transactional;
-import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.company.model.dto.CompanyDto;
 import org.example.backend.domain.company.model.entity.CompanyRegisterVerify;
 import org.example.backend.domain.company.repository.CompanyRegisterVerifyRepository;
 import org.example.backend.global.common.constants.BaseResponseStatus;
 import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
@@ -20,13 +20,19 @@ import java.util.*;
 import static org.springframework.http.HttpMethod.*;
 
 @Service
-@RequiredArgsConstructor
 public class CompanyRegisterVerifyService {
     @Value("${api.nts-businessman.v1.validate.serviceKey}")
     private String serviceKey;
     @Value("${api.nts-businessman.v1.validate.url}")
     private String apiUrl;
     private final CompanyRegisterVerifyRepository companyRegisterVerifyRepository;
+    private final RestTemplate restTemplate;
+
+    public CompanyRegisterVerifyService(CompanyRegisterVerifyRepository companyRegisterVerifyRepository,
+                                        @Qualifier("externalRestTemplate") RestTemplate restTemplate) {
+        this.companyRegisterVerifyRepository = companyRegisterVerifyRepository;
+        this.restTemplate = restTemplate;
+    }
 
 
     @Transactional
@@ -47,9 +53,6 @@ public class CompanyRegisterVerifyService {
 
     //url로 사업자등록여부 판단하는 http 요청을 전송하는 메소드
     public ResponseEntity<String> sendPostRequest(CompanyDto.RegNumberVerifyRequest requestBody) {
-        //요청보낼 RestTemplage 객체 생성
-        RestTemplate restTemplate = new RestTemplate();
-
         // 헤더 설정 (JSON 형식)
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -22,4 +22,8 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
     Page<Likes> findAllByUserIdx(@Param("userIdx") Long userIdx, Pageable pageable);
 
     Boolean existsByProductBoardIdxAndUserIdx(Long productBoardIdx, Long userIdx);
+
+    // 게시글 목록 중 사용자가 좋아요한 게시글 idx
+    @Query("SELECT l.productBoard.idx FROM Likes l WHERE l.user.idx = :userIdx AND l.productBoard.idx IN :productBoardIdxList")
+    List<Long> findLikedProductBoardIdx(@Param("userIdx") Long userIdx, @Param("productBoardIdxList") List<Long> productBoardIdxList);
 }
@@ -6,10 +6,15 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.service.OrderCompletionService;
+import org.example.backend.domain.orders.service.OrderExportService;
 import org.example.backend.domain.orders.service.OrderService;
+import org.example.backend.domain.orders.service.SalesSummaryService;
 
 import org.example.backend.domain.user.model.entity.User;
 import org.example.backend.global.common.constants.BaseResponse;
@@ -19,6 +24,9 @@ import org.example.backend.global.common.constants.SwaggerExamples;
 import org.example.backend.global.security.custom.model.dto.CustomCompanyDetails;
 import org.example.backend.global.security.custom.model.dto.CustomUserDetails;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -29,7 +37,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -37,6 +47,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class OrdersController {
     private final OrderService orderService;
+    private final OrderCompletionService orderCompletionService;
+    private final OrderExportService orderExportService;
+    private final SalesSummaryService salesSummaryService;
 
     @PostMapping("/register")
     @Operation(summary = "주문 등록 API", description = SwaggerDescription.ORDERS_REGISTER_REQUEST,
@@ -58,9 +71,17 @@ public class OrdersController {
     @PostMapping("/complete")
     public ResponseEntity<BaseResponse> completeOrder(@AuthenticationPrincipal CustomUserDetails customUserDetails, @RequestBody OrderCompleteRequest order) {
         User user = customUserDetails.getUser();
-        orderService.complete(user, order);
-        log.info("[SUCCESS] Order complete: [POST][200][Order ID : {}]", order.getOrderIdx());
-        return ResponseEntity.ok(new BaseResponse());
+        OrderStatusResponse res = orderCompletionService.complete(user, order);
+        log.info("[SUCCESS] Order complete: [POST][200][Order ID : {}][{}]", order.getOrderIdx(), res.getStatus());
+        return ResponseEntity.ok(new BaseResponse(res));
+    }
+
+    @Operation(summary = "주문 상태 조회 API")
+    @GetMapping("/{idx}/status")
+    public BaseResponse orderStatus(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable Long idx) {
+        User user = customUserDetails.getUser();
+        OrderStatusResponse res = orderService.getOrderStatus(user, idx);
+        return new BaseResponse(res);
     }
 
     @PatchMapping("/{idx}/cancel")
@@ -70,14 +91,41 @@ public class OrdersController {
         return ResponseEntity.ok(new BaseResponse());
     }
 
-    @Operation(summary = "판매자 주문 내역 조회 API")
+    @Operation(summary = "판매자 주문 내역 조회 API", description = "cursor(이전 페이지 마지막 orderIdx)를 주면 page 대신 cursor 이후부터 조회하고 전체 개수는 주지 않음")
     @GetMapping(value = "/company/history")
-    public BaseResponse companyOrderlist(@AuthenticationPrincipal CustomCompanyDetails customUserDetails, Integer page, String status, Integer month) {
+    public BaseResponse companyOrderlist(@AuthenticationPrincipal CustomCompanyDetails customUserDetails, Integer page, Long cursor, String status, Integer month) {
         Company company = customUserDetails.getCompany();
+        if (cursor != null) {
+            return new BaseResponse(orderService.companyOrderListByCursor(company, cursor, status, month));
+        }
         Page<CompanyOrderListResponse> boardListResponses = orderService.companyOrderList(company, page, status, month);
         return new BaseResponse(boardListResponses);
     }
 
+    @Operation(summary = "판매자 주문 내역 내보내기 API", description = "게시글(boardIdx) 또는 기간(from ~ to, yyyy-MM-dd)의 주문 상품과 배송지를 CSV 로 내려받음")
+    @GetMapping("/company/export")
+    public ResponseEntity<StreamingResponseBody> companyOrderExport(@AuthenticationPrincipal CustomCompanyDetails customUserDetails,
+                                                                    @RequestParam(required = false) Long boardIdx,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Company company = customUserDetails.getCompany();
+        orderExportService.validate(company, boardIdx, from, to);
+        Long companyIdx = company.getIdx();
+        StreamingResponseBody body = outputStream -> orderExportService.export(companyIdx, boardIdx, from, to, outputStream);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-" + LocalDate.now() + ".csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    @Operation(summary = "게시글 판매 집계 조회 API")
+    @GetMapping("/company/sales/{boardIdx}")
+    public BaseResponse boardSales(@AuthenticationPrincipal CustomCompanyDetails customUserDetails, @PathVariable Long boardIdx) {
+        Company company = customUserDetails.getCompany();
+        BoardSalesResponse res = salesSummaryService.getBoardSales(company, boardIdx);
+        return new BaseResponse(res);
+    }
+
     @Operation(summary = "판매자 주문 상세 조회 API")
     @GetMapping("/company/{idx}/detail")
     public BaseResponse companyOrderdetail(@AuthenticationPrincipal CustomCompanyDetails customUserDetails, @PathVariable Long idx){
@@ -86,10 +134,13 @@ public class OrdersController {
         return new BaseResponse(res);
     }
 
-    @Operation(summary = "사용자 주문 내역 조회 API")
+    @Operation(summary = "사용자 주문 내역 조회 API", description = "cursor(이전 페이지 마지막 orderIdx)를 주면 page 대신 cursor 이후부터 조회하고 전체 개수는 주지 않음")
     @GetMapping(value = "/user/history")
-    public BaseResponse userOrderlist(@AuthenticationPrincipal CustomUserDetails customUserDetails, Integer page, String status, Integer month) {
+    public BaseResponse userOrderlist(@AuthenticationPrincipal CustomUserDetails customUserDetails, Integer page, Long cursor, String status, Integer month) {
         User user = customUserDetails.getUser();
+        if (cursor != null) {
+            return new BaseResponse(orderService.userOrderListByCursor(user, cursor, status, month));
+        }
         Page<UserOrderListResponse> boardListResponses = orderService.userOrderList(user, page, status, month);
         return new BaseResponse(boardListResponses);
     }
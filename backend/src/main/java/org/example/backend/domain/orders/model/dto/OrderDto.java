@@ -4,6 +4,9 @@ import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.Builder;
 
 import lombok.Getter;
@@ -12,7 +15,6 @@ import org.example.backend.domain.orders.model.entity.Orders;
 import org.example.backend.domain.user.model.entity.User;
 import org.example.backend.global.common.constants.OrderStatus;
 import org.example.backend.global.common.constants.PaymentType;
-import org.example.backend.global.utils.RandomCodeGenerator;
 
 public class OrderDto {
     @Builder
@@ -23,14 +25,24 @@ public class OrderDto {
 
         @ArraySchema(arraySchema = @Schema(description = "주문한 상품들"), schema = @Schema(implementation = OrderedProductDto.Request.class))
         private List<OrderedProductDto.Request> orderedProducts;
-        public static Orders toEntity(Long boardIdx, User user) {
+
+        @Schema(description = "대기열 입장 토큰")
+        private String admissionToken;
+
+        public static Orders toEntity(Long boardIdx, User user, String ordersNumber) {
             return Orders.builder()
                     .boardIdx(boardIdx)
                     .user(user)
-                    .ordersNumber(RandomCodeGenerator.generate(10))
+                    .ordersNumber(ordersNumber)
                     .status(OrderStatus.PAYMENT_WAIT)
                     .build();
         }
+
+        // 상품 idx 순으로 정렬된 상품별 주문 수량
+        public Map<Long, Integer> toStockQuantities() {
+            return orderedProducts.stream()
+                    .collect(Collectors.toMap(OrderedProductDto.Request::getIdx, OrderedProductDto.Request::getQuantity, Integer::sum, TreeMap::new));
+        }
     }
 
     @Builder
@@ -58,6 +70,13 @@ public class OrderDto {
         private Long orderIdx;
     }
 
+    @Builder
+    @Getter
+    public static class OrderStatusResponse {
+        private Long orderIdx;
+        private String status;
+    }
+
     @Builder
     @Getter
     public static class CompanyOrderListResponse {
@@ -112,4 +131,25 @@ public class OrderDto {
         private String address;
 
     }
+
+    @Builder
+    @Getter
+    public static class BoardSalesResponse {
+        private Long boardIdx;
+        private String title;
+        private Long orderCount;
+        private Long units;
+        private Long grossAmount;
+        private Long usedPoint;
+        private List<ProductSalesResponse> products;
+    }
+
+    @Builder
+    @Getter
+    public static class ProductSalesResponse {
+        private Long productIdx;
+        private String name;
+        private Long units;
+        private Long grossAmount;
+    }
 }
@@ -25,6 +25,7 @@ public class OrderedProductDto {
                     .productIdx(request.getIdx())
                     .quantity(request.quantity)
                     .orders(order)
+                    .createdAt(order.getCreatedAt())
                     .build();
         }
     }
@@ -0,0 +1,46 @@
+package org.example.backend.domain.orders.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글별 / 상품별 판매 집계 (주문 완료 시 더하고, 주문 취소 시 빼서 유지)
+ * - productIdx 가 0 인 행은 게시글 전체 합계 (주문 수, 사용 포인트는 이 행에만 집계)
+ * - 행 변경은 BoardSalesSummaryRepository.accumulate 의 upsert 로만 함
+ */
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_board_sales_summary", columnNames = {"boardIdx", "productIdx"}))
+public class BoardSalesSummary {
+    public static final Long BOARD_TOTAL = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    private Long boardIdx;
+    private Long productIdx;
+
+    private Long orderCount;
+    private Long units;
+    private Long grossAmount;
+    private Long usedPoint;
+
+    private LocalDateTime modifiedAt;
+
+    public boolean isBoardTotal() {
+        return BOARD_TOTAL.equals(productIdx);
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.backend.domain.orders.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 결제 완료 요청 중복 처리 방지 (status, error 가 모두 없으면 처리 중)
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+public class OrderIdempotencyKey {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    @Column(unique = true, nullable = false)
+    private String idempotencyKey; // 사용자 idx + 결제 번호
+
+    private Long orderIdx;
+    private Long userIdx;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+    @Enumerated(EnumType.STRING)
+    private BaseResponseStatus error;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public boolean isProcessing() {
+        return status == null && error == null;
+    }
+}
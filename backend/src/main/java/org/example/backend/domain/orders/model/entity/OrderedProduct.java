@@ -1,11 +1,17 @@
 package org.example.backend.domain.orders.model.entity;
 
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -21,6 +27,8 @@ import org.example.backend.domain.orders.model.dto.OrderedProductDto.OrderedProd
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
+// orders 와 같은 월별 파티션으로 나누기 위해 주문의 created_at 을 함께 저장
+@Table(indexes = @Index(name = "idx_ordered_product_orders", columnList = "orders_idx"))
 public class OrderedProduct {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,11 +37,20 @@ public class OrderedProduct {
     private Integer quantity;
 
     @ManyToOne
-    @JoinColumn(name="orders_idx")
+    @JoinColumn(name="orders_idx", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Orders orders;
 
     private Long productIdx;
 
+    @Column(updatable = false)
+    private LocalDateTime createdAt; // 주문의 created_at
+
+    private Long amount; // 주문 완료 시점의 할인 적용 금액 (판매 집계 취소 시 사용)
+
+    public void updateAmount(Long amount) {
+        this.amount = amount;
+    }
+
     public OrderedProductResponse toOrderedProductResponse(Product product, Integer discountRate) {
         return OrderedProductResponse.builder()
                 .name(product.getName())
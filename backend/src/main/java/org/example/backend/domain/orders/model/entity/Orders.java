@@ -2,19 +2,27 @@ package org.example.backend.domain.orders.model.entity;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,7 +32,7 @@ import org.example.backend.domain.delivery.model.entity.Delivery;
 import org.example.backend.domain.orders.model.dto.OrderDto.OrderCompleteRequest;
 import org.example.backend.domain.board.model.entity.ProductBoard;
 import org.example.backend.domain.orders.model.dto.OrderDto.CompanyOrderDetailResponse;
-import org.example.backend.domain.orders.model.dto.OrderDto.CompanyOrderListResponse;
+import org.example.backend.domain.orders.model.dto.OrderDto.OrderStatusResponse;
 import org.example.backend.domain.orders.model.dto.OrderDto.UserOrderDetailResponse;
 import org.example.backend.domain.orders.model.dto.OrderDto.UserOrderListResponse;
 import org.example.backend.domain.orders.model.dto.OrderedProductDto.OrderedProductResponse;
@@ -41,6 +49,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @Getter
 @EntityListeners(AuditingEntityListener.class)
+// 판매자 주문 내역 : 판매자 게시글 -> (board_idx, status, idx) 인덱스만으로 최신순 조회
+// 미결제 주문 정리 : (status, idx) 인덱스로 상태별 오래된 주문부터 조회
+// created_at 월별 파티션 테이블 (db/orders-partition.sql) : unique 키와 외래 키를 둘 수 없음
+@Table(indexes = {
+        @Index(name = "idx_orders_board_status", columnList = "boardIdx, status, idx"),
+        @Index(name = "idx_orders_status", columnList = "status, idx"),
+        @Index(name = "idx_orders_number", columnList = "ordersNumber")
+})
 public class Orders {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -48,7 +64,7 @@ public class Orders {
 
     private Long boardIdx;
 
-    private String ordersNumber; // 주문 번호
+    private String ordersNumber; // 주문 번호 (OrderNumberGenerator 가 서버 간에도 겹치지 않게 생성)
 
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
@@ -79,7 +95,7 @@ public class Orders {
     private Long originalPaidAmount;
 
     @ManyToOne
-    @JoinColumn(name = "user_idx")
+    @JoinColumn(name = "user_idx", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @OneToMany(mappedBy = "orders", fetch = FetchType.LAZY, cascade = CascadeType.REMOVE)
@@ -104,17 +120,20 @@ public class Orders {
         this.status = status;
     }
 
+    // 상품 idx 순으로 정렬된 상품별 주문 수량
+    public Map<Long, Integer> toStockQuantities() {
+        if (orderedProducts == null) {
+            return Collections.emptyMap();
+        }
+        return orderedProducts.stream()
+                .collect(Collectors.toMap(OrderedProduct::getProductIdx, OrderedProduct::getQuantity, Integer::sum, TreeMap::new));
+    }
+
 
-    public CompanyOrderListResponse toCompanyOrderListResponse(String title) {
-        return CompanyOrderListResponse.builder()
+    public OrderStatusResponse toOrderStatusResponse() {
+        return OrderStatusResponse.builder()
                 .orderIdx(this.idx)
-                .ordersNumber(this.ordersNumber)
-                .title(title)
-                .ordererName(this.user.getName())
                 .status(this.status.getStatus())
-                .totalPaidAmount(this.totalPaidAmount)
-                .payMethod(this.payMethod.getType())
-                .modifiedAt(this.modifiedAt)
                 .build();
     }
 
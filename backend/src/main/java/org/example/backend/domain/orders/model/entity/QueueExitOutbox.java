@@ -0,0 +1,48 @@
+package org.example.backend.domain.orders.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 대기열 서버에 보낼 대기열 퇴장 요청 (전송 성공 시 삭제)
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_queue_exit_outbox_next_attempt", columnList = "nextAttemptAt"))
+public class QueueExitOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    private Long boardIdx;
+    private Long userIdx;
+
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    // 전송하려고 가져간 relay 실행을 구분하는 값, 가져가면 nextAttemptAt 을 lease 만큼 미룸
+    private String claimToken;
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+}
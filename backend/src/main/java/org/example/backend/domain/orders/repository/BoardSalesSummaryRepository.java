@@ -0,0 +1,9 @@
+package org.example.backend.domain.orders.repository;
+
+import java.util.List;
+import org.example.backend.domain.orders.model.entity.BoardSalesSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BoardSalesSummaryRepository extends JpaRepository<BoardSalesSummary, Long>, BoardSalesSummaryRepositoryCustom {
+    List<BoardSalesSummary> findAllByBoardIdx(Long boardIdx);
+}
@@ -0,0 +1,8 @@
+package org.example.backend.domain.orders.repository;
+
+import java.util.List;
+import org.example.backend.domain.orders.model.entity.BoardSalesSummary;
+
+public interface BoardSalesSummaryRepositoryCustom {
+    void accumulate(List<BoardSalesSummary> deltas);
+}
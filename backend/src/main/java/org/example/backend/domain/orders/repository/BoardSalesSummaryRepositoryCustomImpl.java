@@ -0,0 +1,36 @@
+package org.example.backend.domain.orders.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.orders.model.entity.BoardSalesSummary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardSalesSummaryRepositoryCustomImpl implements BoardSalesSummaryRepositoryCustom {
+    private static final String ACCUMULATE_SQL = """
+            INSERT INTO board_sales_summary (board_idx, product_idx, order_count, units, gross_amount, used_point, modified_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE order_count = order_count + VALUES(order_count), units = units + VALUES(units),
+                gross_amount = gross_amount + VALUES(gross_amount), used_point = used_point + VALUES(used_point),
+                modified_at = VALUES(modified_at)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 집계 행에 변화량을 더함 (행이 없으면 생성), 읽고 쓰는 과정 없이 한 문장으로 처리하므로 동시에 호출해도 누락되지 않음
+     * (board_idx, product_idx) 순으로 정렬해서 호출해야 교착 상태가 생기지 않음
+     */
+    @Override
+    public void accumulate(List<BoardSalesSummary> deltas) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(ACCUMULATE_SQL, deltas.stream()
+                .map(delta -> new Object[]{delta.getBoardIdx(), delta.getProductIdx(), delta.getOrderCount(),
+                        delta.getUnits(), delta.getGrossAmount(), delta.getUsedPoint(), now})
+                .toList());
+    }
+}
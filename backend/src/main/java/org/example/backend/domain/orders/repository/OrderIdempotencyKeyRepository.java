@@ -0,0 +1,24 @@
+package org.example.backend.domain.orders.repository;
+
+import java.util.Optional;
+import org.example.backend.domain.orders.model.entity.OrderIdempotencyKey;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, Long> {
+    Optional<OrderIdempotencyKey> findByIdempotencyKey(String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OrderIdempotencyKey k SET k.status=:status, k.error=:error WHERE k.idempotencyKey=:idempotencyKey")
+    int updateResult(String idempotencyKey, OrderStatus status, BaseResponseStatus error);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.idempotencyKey=:idempotencyKey")
+    int deleteByIdempotencyKey(String idempotencyKey);
+}
@@ -2,6 +2,12 @@ package org.example.backend.domain.orders.repository;
 
 import org.example.backend.domain.orders.model.entity.OrderedProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 public interface OrderedProductRepository extends JpaRepository<OrderedProduct, Long> {
+    // 금액이 아직 저장되지 않았을 때만 저장 (변경된 행 수 반환)
+    @Modifying
+    @Query("UPDATE OrderedProduct op SET op.amount=:amount WHERE op.idx=:idx AND op.amount IS NULL")
+    int updateAmountIfAbsent(Long idx, Long amount);
 }
@@ -1,13 +1,29 @@
 package org.example.backend.domain.orders.repository;
 
+import java.util.List;
 import java.util.Optional;
 import org.example.backend.domain.orders.model.entity.Orders;
 import org.example.backend.domain.orders.repository.querydsl.OrdersRepositoryCustom;
+import org.example.backend.global.common.constants.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 
 public interface OrdersRepository extends JpaRepository<Orders, Long> , OrdersRepositoryCustom {
     @Query("SELECT o from Orders o JOIN FETCH o.orderedProducts WHERE o.idx=:idx")
     Optional<Orders> findById(Long idx);
+
+    @Query("SELECT DISTINCT o from Orders o JOIN FETCH o.orderedProducts WHERE o.status=:status")
+    List<Orders> findAllByStatusWithProducts(OrderStatus status);
+
+    @Query("SELECT DISTINCT o from Orders o JOIN FETCH o.orderedProducts WHERE o.idx IN :idxList")
+    List<Orders> findAllWithProductsByIdxIn(List<Long> idxList);
+
+    // 현재 상태가 from 일 때만 to 로 변경 (변경된 행 수 반환), 상태가 멈춘 주문을 찾을 수 있도록 수정 시각도 변경
+    @Transactional
+    @Modifying
+    @Query("UPDATE Orders o SET o.status=:to, o.modifiedAt=CURRENT_TIMESTAMP WHERE o.idx=:idx AND o.status=:from")
+    int updateStatus(Long idx, OrderStatus from, OrderStatus to);
 }
@@ -0,0 +1,23 @@
+package org.example.backend.domain.orders.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.orders.model.entity.QueueExitOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface QueueExitOutboxRepository extends JpaRepository<QueueExitOutbox, Long> {
+    @Query("SELECT o.idx FROM QueueExitOutbox o WHERE o.nextAttemptAt <= :now ORDER BY o.idx")
+    List<Long> findDueIdx(LocalDateTime now, Pageable pageable);
+
+    // 아직 다른 서버가 가져가지 않은 요청만 claimToken 으로 가져가고 leaseUntil 까지 다른 서버가 가져가지 못하게 함
+    @Transactional
+    @Modifying
+    @Query("UPDATE QueueExitOutbox o SET o.claimToken=:claimToken, o.nextAttemptAt=:leaseUntil WHERE o.idx IN :idxList AND o.nextAttemptAt <= :now")
+    int claim(List<Long> idxList, String claimToken, LocalDateTime now, LocalDateTime leaseUntil);
+
+    List<QueueExitOutbox> findAllByClaimTokenOrderByIdx(String claimToken);
+}
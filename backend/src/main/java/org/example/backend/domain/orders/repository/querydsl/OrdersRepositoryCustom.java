@@ -1,10 +1,32 @@
 package org.example.backend.domain.orders.repository.querydsl;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.dto.OrderDto.CompanyOrderListResponse;
 import org.example.backend.domain.orders.model.entity.Orders;
 import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.global.common.constants.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface OrdersRepositoryCustom {
     Page<Orders> historyWithPaging(Object user, Pageable pageable,  String status, Integer month);
+
+    Page<CompanyOrderListResponse> companyHistoryWithPaging(Company company, Pageable pageable, String status, Integer month);
+
+    Slice<Orders> historyWithCursor(Object user, Long cursor, int size, String status, Integer month);
+
+    Slice<CompanyOrderListResponse> companyHistoryWithCursor(Company company, Long cursor, int size, String status, Integer month);
+
+    List<Long> findSweepableIdx(OrderStatus status, LocalDateTime createdBefore, Long afterIdx, int limit);
+
+    long deleteSweepable(List<Long> idxList, List<OrderStatus> statuses);
+
+    List<Long> findUnrecordedIdx(OrderStatus status, Long afterIdx, int limit);
+
+    List<Long> findStaleIdx(OrderStatus status, LocalDateTime modifiedBefore, Long afterIdx, int limit);
+
+    List<Long> findInterruptedIdx(Long afterIdx, int limit);
 }
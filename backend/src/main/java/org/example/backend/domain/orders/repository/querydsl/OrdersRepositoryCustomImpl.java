@@ -1,19 +1,30 @@
 package org.example.backend.domain.orders.repository.querydsl;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.example.backend.domain.board.model.entity.QProductBoard;
 import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.dto.OrderDto.CompanyOrderListResponse;
 import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.model.entity.QOrderedProduct;
 import org.example.backend.domain.orders.model.entity.QOrders;
+import org.example.backend.domain.user.model.entity.QUser;
 import org.example.backend.domain.user.model.entity.User;
 import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.common.constants.PaymentType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,11 +34,13 @@ public class OrdersRepositoryCustomImpl implements OrdersRepositoryCustom{
     private final QOrders orders;
 
     private final QProductBoard productBoard;
+    private final QUser user;
 
     public OrdersRepositoryCustomImpl(EntityManager em) {
         this.queryFactory = new JPAQueryFactory(em);
         this.orders = QOrders.orders;
         this.productBoard = QProductBoard.productBoard;
+        this.user = QUser.user;
     }
 
     @Override
@@ -47,6 +60,162 @@ public class OrdersRepositoryCustomImpl implements OrdersRepositoryCustom{
         return new PageImpl<>(result, pageable, total);
     }
 
+    // 주문 + 게시글 제목 + 주문자 이름을 한 번의 조인 쿼리로 조회
+    @Override
+    public Page<CompanyOrderListResponse> companyHistoryWithPaging(Company company, Pageable pageable, String status, Integer month) {
+        Predicate[] conditions = {equalsStatus(status), isWithinMonths(month), isJoinedBoardOwner(company)};
+        List<CompanyOrderListResponse> result = selectCompanyHistory()
+                .where(conditions)
+                .orderBy(orders.idx.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch()
+                .stream()
+                .map(this::toCompanyOrderListResponse)
+                .toList();
+
+        // 목록과 같은 조인 / 조건으로 세야 주문자가 없는 주문이 개수에만 포함되지 않음
+        Long total = fromCompanyHistory(queryFactory.select(orders.count()))
+                .where(conditions)
+                .fetchOne();
+
+        return new PageImpl<>(result, pageable, total);
+    }
+
+    // cursor(이전 페이지 마지막 주문 idx)보다 작은 idx 부터 조회, 전체 개수는 세지 않음
+    @Override
+    public Slice<Orders> historyWithCursor(Object user, Long cursor, int size, String status, Integer month) {
+        List<Orders> result = queryFactory
+                .selectFrom(orders)
+                .where(isBeforeCursor(cursor), equalsStatus(status), isWithinMonths(month), filterByUserRole(user))
+                .orderBy(orders.idx.desc())
+                .limit(size + 1)
+                .fetch();
+
+        return toSlice(result, size);
+    }
+
+    @Override
+    public Slice<CompanyOrderListResponse> companyHistoryWithCursor(Company company, Long cursor, int size, String status, Integer month) {
+        List<CompanyOrderListResponse> result = selectCompanyHistory()
+                .where(isBeforeCursor(cursor), equalsStatus(status), isWithinMonths(month), isJoinedBoardOwner(company))
+                .orderBy(orders.idx.desc())
+                .limit(size + 1)
+                .fetch()
+                .stream()
+                .map(this::toCompanyOrderListResponse)
+                .collect(Collectors.toList());
+
+        return toSlice(result, size);
+    }
+
+    // 상태별로 idx 순서대로 이어서 조회 (created_at 은 idx 와 같은 순서로 증가)
+    @Override
+    public List<Long> findSweepableIdx(OrderStatus status, LocalDateTime createdBefore, Long afterIdx, int limit) {
+        return queryFactory
+                .select(orders.idx)
+                .from(orders)
+                .where(orders.status.eq(status), orders.paymentId.isNull(), orders.idx.gt(afterIdx), orders.createdAt.before(createdBefore))
+                .orderBy(orders.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 조회 이후 상태가 바뀐 주문은 지우지 않도록 상태를 다시 확인, 트랜잭션 안에서 호출해야 함
+    // 결제 정보가 있는 주문(결제 후 환불 실패 등)은 결제 기록이므로 지우지 않음
+    @Override
+    public long deleteSweepable(List<Long> idxList, List<OrderStatus> statuses) {
+        QOrderedProduct orderedProduct = QOrderedProduct.orderedProduct;
+        queryFactory.delete(orderedProduct)
+                .where(orderedProduct.orders.idx.in(JPAExpressions
+                        .select(orders.idx)
+                        .from(orders)
+                        .where(orders.idx.in(idxList), orders.status.in(statuses), orders.paymentId.isNull())))
+                .execute();
+
+        return queryFactory.delete(orders)
+                .where(orders.idx.in(idxList), orders.status.in(statuses), orders.paymentId.isNull())
+                .execute();
+    }
+
+    // 판매 집계에 반영되지 않은 주문 (주문 상품 금액이 저장되지 않은 주문)
+    @Override
+    public List<Long> findUnrecordedIdx(OrderStatus status, Long afterIdx, int limit) {
+        QOrderedProduct orderedProduct = QOrderedProduct.orderedProduct;
+        return queryFactory
+                .select(orders.idx)
+                .from(orders)
+                .where(orders.status.eq(status), orders.idx.gt(afterIdx), JPAExpressions
+                        .selectOne()
+                        .from(orderedProduct)
+                        .where(orderedProduct.orders.idx.eq(orders.idx), orderedProduct.amount.isNull())
+                        .exists())
+                .orderBy(orders.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // modifiedBefore 이후로 상태가 바뀌지 않은 주문
+    @Override
+    public List<Long> findStaleIdx(OrderStatus status, LocalDateTime modifiedBefore, Long afterIdx, int limit) {
+        return queryFactory
+                .select(orders.idx)
+                .from(orders)
+                .where(orders.status.eq(status), orders.idx.gt(afterIdx), orders.modifiedAt.before(modifiedBefore))
+                .orderBy(orders.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 결제 확인이 중단된 주문 (결제 정보를 저장한 뒤 결제 시간 만료로 돌아간 주문)
+    @Override
+    public List<Long> findInterruptedIdx(Long afterIdx, int limit) {
+        return queryFactory
+                .select(orders.idx)
+                .from(orders)
+                .where(orders.status.eq(OrderStatus.PAYMENT_EXPIRED), orders.paymentId.isNotNull(), orders.idx.gt(afterIdx))
+                .orderBy(orders.idx.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<Tuple> selectCompanyHistory() {
+        return fromCompanyHistory(queryFactory
+                .select(orders.idx, orders.ordersNumber, orders.payMethod, productBoard.title, user.name,
+                        orders.totalPaidAmount, orders.status, orders.modifiedAt));
+    }
+
+    private <T> JPAQuery<T> fromCompanyHistory(JPAQuery<T> query) {
+        return query
+                .from(orders)
+                .join(productBoard).on(productBoard.idx.eq(orders.boardIdx))
+                .join(orders.user, user);
+    }
+
+    // size + 1 개를 조회해서 다음 페이지 여부 판단
+    private <T> Slice<T> toSlice(List<T> result, int size) {
+        boolean hasNext = false;
+        if (result.size() > size) {
+            result.remove(size);
+            hasNext = true;
+        }
+        return new SliceImpl<>(result, Pageable.ofSize(size), hasNext);
+    }
+
+    private CompanyOrderListResponse toCompanyOrderListResponse(Tuple tuple) {
+        PaymentType payMethod = tuple.get(orders.payMethod);
+        return CompanyOrderListResponse.builder()
+                .orderIdx(tuple.get(orders.idx))
+                .ordersNumber(tuple.get(orders.ordersNumber))
+                .title(tuple.get(productBoard.title))
+                .ordererName(tuple.get(user.name))
+                .status(tuple.get(orders.status).getStatus())
+                .totalPaidAmount(tuple.get(orders.totalPaidAmount))
+                .payMethod(payMethod == null ? null : payMethod.getType())
+                .modifiedAt(tuple.get(orders.modifiedAt))
+                .build();
+    }
+
 
     private BooleanExpression filterByUserRole(Object user) {  // 역할에 따른 필터링 조건을 정의
         if (user == null) {
@@ -60,23 +229,27 @@ public class OrdersRepositoryCustomImpl implements OrdersRepositoryCustom{
         return orders.user.idx.eq(((User)user).getIdx());
     }
 
+    // 게시글 idx 목록을 먼저 가져오지 않고 서브쿼리로 판매자 게시글의 주문만 조회 (게시글이 없으면 결과도 없음)
     private BooleanExpression checkBoardOwner(Company user) {
-        List<Long> boardIdxList = fetchBoardIdxListByOwner(user);
+        QProductBoard ownedBoard = new QProductBoard("ownedBoard");
 
-        if (boardIdxList.isEmpty()) {
-            return null;
-        }
+        return orders.boardIdx.in(JPAExpressions
+                .select(ownedBoard.idx)
+                .from(ownedBoard)
+                .where(ownedBoard.company.idx.eq(user.getIdx())));
+    }
 
-        return orders.boardIdx.in(boardIdxList);
+    // 게시글을 이미 조인한 쿼리에서는 조인한 게시글의 판매자로 필터링
+    private BooleanExpression isJoinedBoardOwner(Company company) {
+        return productBoard.company.idx.eq(company.getIdx());
     }
 
+    private BooleanExpression isBeforeCursor(Long cursor) {
+        if (cursor == null) {
+            return null;
+        }
 
-    private List<Long> fetchBoardIdxListByOwner(Company user) {
-        return queryFactory
-                .select(productBoard.idx)
-                .from(productBoard)
-                .where(productBoard.company.idx.eq(user.getIdx()))  // 게시글의 작성자(owner)가 현재 사용자(user)인 경우
-                .fetch();
+        return orders.idx.lt(cursor);
     }
 
     private BooleanExpression equalsStatus(String status) {
@@ -88,6 +261,7 @@ public class OrdersRepositoryCustomImpl implements OrdersRepositoryCustom{
         return orders.status.eq(orderStatus);
     }
 
+    // created_at 을 그대로 비교해야 월별 파티션 중 해당 기간의 파티션만 조회함
     private BooleanExpression isWithinMonths(Integer month) {
         if (month == null) {
             return null;
@@ -0,0 +1,135 @@
+package org.example.backend.domain.orders.service;
+
+import static org.example.backend.domain.orders.model.dto.OrderDto.*;
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_FAIL_NOT_PAYABLE;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.service.OrderIdempotencyService.Ticket;
+import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 완료 요청 처리
+ * - async : 주문 소유자만 확인하고 결제 확인 중 상태를 바로 응답, 결제 조회/검증은 작업 스레드에서 처리
+ *           (클라이언트는 /orders/{idx}/status 로 주문 완료/실패 여부 확인)
+ * - 같은 결제 번호로 다시 요청하면 결제 조회/검증을 다시 하지 않고 처음 요청의 결과로 응답 (OrderIdempotencyService)
+ * - 작업 큐가 가득 차면 요청 스레드에서 직접 처리해서 요청 속도를 늦춤
+ * - 서버 재시작 / 예상하지 못한 오류로 중단된 결제 확인은 OrderSweeper 가 recover 로 다시 확인하고 결과를 남김
+ */
+@Slf4j
+@Service
+public class OrderCompletionService {
+    private final OrderService orderService;
+    private final boolean async;
+    private final ThreadPoolExecutor executor;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final Duration duplicateWaitTimeout;
+
+    public OrderCompletionService(OrderService orderService, OrderIdempotencyService orderIdempotencyService,
+                                  @Value("${order.complete.async:false}") boolean async,
+                                  @Value("${order.complete.idempotency.wait-timeout:10s}") Duration duplicateWaitTimeout,
+                                  @Value("${order.complete.worker.threads:16}") int threads,
+                                  @Value("${order.complete.worker.queue-capacity:1000}") int queueCapacity) {
+        this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.async = async;
+        this.duplicateWaitTimeout = duplicateWaitTimeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+
+        Metrics.gauge("orders.complete.queue.depth", executor, e -> e.getQueue().size());
+        Metrics.gauge("orders.complete.active", executor, ThreadPoolExecutor::getActiveCount);
+    }
+
+    public OrderStatusResponse complete(User user, OrderCompleteRequest request) {
+        Orders order = orderService.getCompletableOrder(user, request);
+        Ticket ticket = orderIdempotencyService.begin(user.getIdx(), order.getIdx(), request.getPaymentId());
+        if (!ticket.isOwner()) { // 재시도 요청은 처음 요청의 결과로 응답
+            return ticket.await(async ? Duration.ZERO : duplicateWaitTimeout);
+        }
+
+        if (!async) {
+            completePayment(order, request, ticket);
+            return OrderStatusResponse.builder()
+                    .orderIdx(order.getIdx())
+                    .status(OrderStatus.ORDER_COMPLETE.getStatus())
+                    .build();
+        }
+
+        Timer.Sample queued = Timer.start();
+        executor.execute(() -> {
+            queued.stop(Metrics.timer("orders.complete.stage", "stage", "queue_wait"));
+            try {
+                completePayment(order, request, ticket);
+            } catch (InvalidCustomException e) { // 실패한 주문은 주문 실패 상태로 저장됨
+                log.info("[Faild] Order complete failed: [Order ID : {}][{}]", order.getIdx(), e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("[Faild] Order complete failed: [Order ID : {}]", order.getIdx(), e);
+            }
+        });
+
+        return OrderStatusResponse.builder()
+                .orderIdx(order.getIdx())
+                .status(OrderStatus.PAYMENT_VERIFYING.getStatus())
+                .build();
+    }
+
+    private void completePayment(Orders order, OrderCompleteRequest request, Ticket ticket) {
+        try {
+            orderService.completePayment(order, request);
+            ticket.complete(OrderStatus.ORDER_COMPLETE);
+        } catch (InvalidCustomException e) {
+            ticket.fail(e);
+            throw e;
+        } catch (RuntimeException e) {
+            ticket.abort(e);
+            throw e;
+        }
+    }
+
+    // 결제 확인이 중단된 주문을 다시 확인하고, 처음 요청의 중복 방지 키에 결과 저장
+    public boolean recover(Orders order) {
+        Long userIdx = order.getUser().getIdx();
+        try {
+            orderService.recoverPayment(order);
+            orderIdempotencyService.resolve(userIdx, order.getIdx(), order.getPaymentId(), OrderStatus.ORDER_COMPLETE, null);
+            return true;
+        } catch (InvalidCustomException e) {
+            if (e.getStatus() != ORDER_FAIL_NOT_PAYABLE) { // 다른 요청이 먼저 가져간 주문은 그 요청이 결과를 남김
+                orderIdempotencyService.resolve(userIdx, order.getIdx(), order.getPaymentId(), null, e.getStatus());
+            }
+            log.info("[Faild] Order recover failed: [Order ID : {}][{}]", order.getIdx(), e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[Order Complete] Worker did not finish [remaining : {}]", executor.getQueue().size());
+        }
+    }
+
+    private ThreadFactory workerThreadFactory() {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "order-complete-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.backend.domain.orders.service;
+
+import static org.example.backend.global.common.constants.BaseResponseStatus.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.common.constants.PaymentType;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 판매자 주문 내역 CSV 내보내기
+ * - 주문 상품 한 건당 한 줄 (주문 정보 + 상품 + 배송지)
+ * - fetch-size 만큼씩 읽는 JDBC 커서에서 바로 응답으로 쓰기 때문에 주문 수와 상관없이 메모리 사용량이 일정함
+ * - Excel 에서 바로 열 수 있도록 UTF-8 BOM 을 붙임
+ */
+@Slf4j
+@Service
+public class OrderExportService {
+    private static final String HEADER = "주문번호,주문일시,주문상태,결제수단,결제금액,게시글,상품,수량,상품가격,받는사람,연락처,우편번호,주소,상세주소";
+    private static final String EXPORT_SQL = """
+            SELECT o.orders_number, o.created_at, o.status, o.pay_method, o.total_paid_amount, b.title,
+                   p.name, op.quantity, p.price,
+                   o.receiver_name, o.receiver_phone_number, o.post_number, o.address, o.address_detail
+            FROM orders o
+            JOIN product_board b ON b.idx = o.board_idx
+            JOIN ordered_product op ON op.orders_idx = o.idx
+            LEFT JOIN product p ON p.idx = op.product_idx
+            WHERE b.company_idx = ? AND o.status IN ('ORDER_COMPLETE', 'ORDER_CANCEL')
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductBoardRepository productBoardRepository;
+    private final Counter exportedRows = Metrics.counter("orders.export.rows");
+
+    public OrderExportService(DataSource dataSource, ProductBoardRepository productBoardRepository,
+                              @Value("${order.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize); // MariaDB 드라이버는 fetch-size 가 있으면 결과를 나눠서 읽음
+        this.productBoardRepository = productBoardRepository;
+    }
+
+    // 응답을 쓰기 전에 호출, 스트리밍이 시작되면 오류 응답을 보낼 수 없음
+    public void validate(Company company, Long boardIdx, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidCustomException(ORDER_FAIL_EXPORT_PERIOD);
+        }
+        if (boardIdx == null) {
+            return;
+        }
+        ProductBoard board = productBoardRepository.findById(boardIdx)
+                .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND));
+        if (!company.getIdx().equals(board.getCompany().getIdx())) {
+            throw new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND);
+        }
+    }
+
+    public long export(Long companyIdx, Long boardIdx, LocalDate from, LocalDate to, OutputStream outputStream) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(companyIdx);
+        if (boardIdx != null) {
+            sql.append(" AND o.board_idx = ?");
+            args.add(boardIdx);
+        }
+        if (from != null) {
+            sql.append(" AND o.created_at >= ?");
+            args.add(Timestamp.valueOf(from.atStartOfDay()));
+        }
+        if (to != null) {
+            sql.append(" AND o.created_at < ?");
+            args.add(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        }
+        sql.append(" ORDER BY o.idx, op.idx");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long[] rows = {0};
+        try {
+            writer.write('\uFEFF');
+            writer.write(HEADER);
+            writer.write('\n');
+            jdbcTemplate.query(sql.toString(), resultSet -> {
+                writeRow(writer, resultSet);
+                rows[0]++;
+                exportedRows.increment();
+            }, args.toArray());
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("[Order Export] Exported orders [Company ID : {}][rows : {}]", companyIdx, rows[0]);
+        return rows[0];
+    }
+
+    private void writeRow(Writer writer, ResultSet resultSet) throws SQLException {
+        Timestamp createdAt = resultSet.getTimestamp("created_at");
+        String status = resultSet.getString("status");
+        String payMethod = resultSet.getString("pay_method");
+        try {
+            writer.write(String.join(",",
+                    escape(resultSet.getString("orders_number")),
+                    escape(createdAt == null ? null : createdAt.toLocalDateTime().toString()),
+                    escape(status == null ? null : OrderStatus.valueOf(status).getStatus()),
+                    escape(payMethod == null ? null : PaymentType.valueOf(payMethod).getType()),
+                    escape(resultSet.getString("total_paid_amount")),
+                    escape(resultSet.getString("title")),
+                    escape(resultSet.getString("name")),
+                    escape(resultSet.getString("quantity")),
+                    escape(resultSet.getString("price")),
+                    escape(resultSet.getString("receiver_name")),
+                    escape(resultSet.getString("receiver_phone_number")),
+                    escape(resultSet.getString("post_number")),
+                    escape(resultSet.getString("address")),
+                    escape(resultSet.getString("address_detail"))));
+            writer.write('\n');
+        } catch (IOException e) { // 클라이언트가 연결을 끊으면 커서를 닫고 중단
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고, 수식으로 해석될 수 있는 값은 앞에 ' 를 붙임
+    static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !value.matches("-?\\d+")) {
+            value = "'" + value;
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,200 @@
+package org.example.backend.domain.orders.service;
+
+import static org.example.backend.domain.orders.model.dto.OrderDto.*;
+import static org.example.backend.global.common.constants.BaseResponseStatus.*;
+
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.orders.model.entity.OrderIdempotencyKey;
+import org.example.backend.domain.orders.repository.OrderIdempotencyKeyRepository;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 완료 요청 중복 처리 방지 (키 : 사용자 idx + 결제 번호)
+ * - 처음 들어온 요청만 결제 조회 / 검증을 하고, 결과는 order_idempotency_key 에 저장
+ * - 같은 서버에 동시에 들어온 중복 요청은 처음 요청의 결과를 기다렸다가 같은 결과로 응답
+ * - 끝난 요청의 결과는 최근 cache-size 개까지 서버 메모리에 두고, 나머지는 DB 에서 조회
+ * - 다른 서버에서 처리 중인 요청은 결제 확인 중으로 응답 (클라이언트는 /orders/{idx}/status 로 확인)
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final Map<String, CompletableFuture<Result>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Result> completed;
+
+    public OrderIdempotencyService(OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+                                   @Value("${order.complete.idempotency.cache-size:10000}") int cacheSize) {
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.completed = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Result> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // 요청을 처리할 차례면 owner 인 Ticket, 이미 처리했거나 처리 중이면 결과를 기다리는 Ticket 반환
+    public Ticket begin(Long userIdx, Long orderIdx, String paymentId) {
+        if (paymentId == null || paymentId.isBlank()) {
+            throw new InvalidCustomException(ORDER_FAIL_NONIMPUID);
+        }
+        String key = key(userIdx, paymentId);
+
+        Result cached = getCompleted(key);
+        if (cached != null) {
+            return replay(key, cached, orderIdx);
+        }
+
+        CompletableFuture<Result> future = new CompletableFuture<>();
+        CompletableFuture<Result> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            Metrics.counter("orders.complete.idempotency", "result", "in_flight").increment();
+            return new Ticket(this, key, orderIdx, running, false);
+        }
+
+        try {
+            orderIdempotencyKeyRepository.saveAndFlush(OrderIdempotencyKey.builder()
+                    .idempotencyKey(key)
+                    .orderIdx(orderIdx)
+                    .userIdx(userIdx)
+                    .build());
+        } catch (DataIntegrityViolationException e) { // 이전에 처리했거나 다른 서버에서 처리 중
+            inFlight.remove(key, future);
+            OrderIdempotencyKey saved = orderIdempotencyKeyRepository.findByIdempotencyKey(key)
+                    .orElseThrow(() -> e);
+            Result result = Result.of(saved);
+            if (!saved.isProcessing()) {
+                putCompleted(key, result);
+            }
+            future.complete(result);
+            return replay(key, result, orderIdx);
+        }
+        return new Ticket(this, key, orderIdx, future, true);
+    }
+
+    // 요청 스레드 밖에서 끝난 결제 확인(OrderSweeper 가 다시 확인한 주문)의 결과 저장
+    public void resolve(Long userIdx, Long orderIdx, String paymentId, OrderStatus status, BaseResponseStatus error) {
+        finish(key(userIdx, paymentId), new Result(orderIdx, status, error));
+    }
+
+    private String key(Long userIdx, String paymentId) {
+        return userIdx + ":" + paymentId;
+    }
+
+    private Ticket replay(String key, Result result, Long orderIdx) {
+        Metrics.counter("orders.complete.idempotency", "result", "replay").increment();
+        return new Ticket(this, key, orderIdx, CompletableFuture.completedFuture(result), false);
+    }
+
+    private void finish(String key, Result result) {
+        orderIdempotencyKeyRepository.updateResult(key, result.status(), result.error());
+        putCompleted(key, result);
+        CompletableFuture<Result> future = inFlight.remove(key);
+        if (future != null) {
+            future.complete(result);
+        }
+    }
+
+    // 예상하지 못한 오류는 결과를 남기지 않고 키를 지워서 다시 요청할 수 있게 함
+    private void abort(String key, RuntimeException e) {
+        try {
+            orderIdempotencyKeyRepository.deleteByIdempotencyKey(key);
+        } catch (RuntimeException deleteFailed) {
+            log.warn("[Faild] Idempotency key delete failed: [{}]", key, deleteFailed);
+        }
+        CompletableFuture<Result> future = inFlight.remove(key);
+        if (future != null) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private synchronized Result getCompleted(String key) {
+        return completed.get(key);
+    }
+
+    private synchronized void putCompleted(String key, Result result) {
+        completed.put(key, result);
+    }
+
+    public static class Ticket {
+        private final OrderIdempotencyService service;
+        private final String key;
+        private final Long orderIdx;
+        private final CompletableFuture<Result> future;
+        private final boolean owner;
+
+        private Ticket(OrderIdempotencyService service, String key, Long orderIdx, CompletableFuture<Result> future, boolean owner) {
+            this.service = service;
+            this.key = key;
+            this.orderIdx = orderIdx;
+            this.future = future;
+            this.owner = owner;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        public void complete(OrderStatus status) {
+            service.finish(key, new Result(orderIdx, status, null));
+        }
+
+        public void fail(InvalidCustomException e) {
+            service.finish(key, new Result(orderIdx, null, e.getStatus()));
+        }
+
+        public void abort(RuntimeException e) {
+            service.abort(key, e);
+        }
+
+        // 처음 요청의 결과를 timeout 까지 기다림, 그 안에 끝나지 않으면 결제 확인 중으로 응답
+        public OrderStatusResponse await(Duration timeout) {
+            Result result;
+            try {
+                result = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                result = new Result(orderIdx, OrderStatus.PAYMENT_VERIFYING, null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InvalidCustomException(ORDER_PAYMENT_FAIL);
+            } catch (ExecutionException e) {
+                throw new InvalidCustomException(ORDER_PAYMENT_FAIL);
+            }
+            return result.toResponse(orderIdx);
+        }
+    }
+
+    private record Result(Long orderIdx, OrderStatus status, BaseResponseStatus error) {
+        static Result of(OrderIdempotencyKey saved) {
+            OrderStatus status = saved.isProcessing() ? OrderStatus.PAYMENT_VERIFYING : saved.getStatus();
+            return new Result(saved.getOrderIdx(), status, saved.getError());
+        }
+
+        OrderStatusResponse toResponse(Long requestedOrderIdx) {
+            if (!orderIdx.equals(requestedOrderIdx)) { // 같은 결제 번호로 다른 주문을 완료하려는 경우
+                throw new InvalidCustomException(ORDER_FAIL_DUPLICATE_PAYMENT);
+            }
+            if (error != null) {
+                throw new InvalidCustomException(error);
+            }
+            return OrderStatusResponse.builder()
+                    .orderIdx(orderIdx)
+                    .status(status.getStatus())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.example.backend.domain.orders.service;
+
+import io.micrometer.core.instrument.Metrics;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * orders / ordered_product 월별 파티션 관리 (db/orders-partition.sql 로 파티션을 나눈 뒤 사용)
+ * - 이번 달부터 months-ahead 개월 뒤까지의 파티션을 미리 만들어 둠 (비어 있는 p_future 를 나눠서 바로 끝남)
+ * - retention-months 보다 오래된 파티션은 보관 테이블(*_archive)로 복사한 뒤 파티션째 삭제
+ *   DELETE 로 행을 지우지 않아서 운영 테이블에 잠금이나 undo 가 쌓이지 않음
+ * - 파티션 삭제는 DDL 이라 복사와 한 트랜잭션으로 묶이지 않음
+ *   삭제 전에 실패하면 다음 실행에서 다시 복사하고, 이미 복사한 행은 INSERT IGNORE 로 건너뜀
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.partition.enabled", havingValue = "true")
+public class OrderPartitionManager {
+    // 주문 상품을 먼저 보관해서 보관 중에 주문만 남는 경우가 없도록 함
+    static final List<String> TABLES = List.of("ordered_product", "orders");
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public OrderPartitionManager(JdbcTemplate jdbcTemplate,
+                                 @Value("${order.partition.months-ahead:2}") int monthsAhead,
+                                 @Value("${order.partition.retention-months:12}") int retentionMonths) {
+        if (monthsAhead < 1 || retentionMonths < 1) {
+            throw new IllegalArgumentException("order.partition.months-ahead, retention-months 는 1 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${order.partition.cron:0 30 4 * * *}")
+    public void maintain() {
+        maintain(YearMonth.now());
+    }
+
+    void maintain(YearMonth now) {
+        for (String table : TABLES) {
+            Set<String> partitions = partitionNames(table);
+            if (!partitions.contains(FUTURE_PARTITION)) {
+                log.warn("[Order Partition] Table is not partitioned [{}]", table);
+                return;
+            }
+            addPartitions(table, partitions, now);
+        }
+        archive(now.minusMonths(retentionMonths));
+    }
+
+    private void addPartitions(String table, Set<String> partitions, YearMonth now) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = now.plusMonths(i);
+            String partition = month.format(PARTITION_NAME);
+            if (partitions.contains(partition)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + "PARTITION " + partition + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "'), "
+                    + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("[Order Partition] Partition added [{}.{}]", table, partition);
+        }
+    }
+
+    // before 이전 달의 파티션을 오래된 순서로 보관
+    private void archive(YearMonth before) {
+        for (String table : TABLES) {
+            List<String> archiveColumns = archiveColumns(table);
+            if (archiveColumns.isEmpty()) {
+                log.warn("[Order Partition] Archive table not found [{}_archive]", table);
+                return;
+            }
+            String columns = String.join(", ", archiveColumns);
+            for (String partition : partitionNames(table)) {
+                Optional<YearMonth> month = monthOf(partition);
+                if (month.isEmpty() || !month.get().isBefore(before)) {
+                    continue;
+                }
+                int rows = jdbcTemplate.update("INSERT IGNORE INTO " + table + "_archive (" + columns + ") "
+                        + "SELECT " + columns + " FROM " + table + " PARTITION (" + partition + ")");
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+
+                Metrics.counter("orders.partition.archived", "table", table).increment(rows);
+                log.info("[Order Partition] Partition archived [{}.{}][rows : {}]", table, partition, rows);
+            }
+        }
+    }
+
+    // 보관 테이블 생성 이후 운영 테이블에 추가된 컬럼은 보관하지 않음
+    private List<String> archiveColumns(String table) {
+        return jdbcTemplate.queryForList("SELECT c.COLUMN_NAME FROM information_schema.COLUMNS c "
+                + "JOIN information_schema.COLUMNS a ON a.TABLE_SCHEMA = c.TABLE_SCHEMA AND a.COLUMN_NAME = c.COLUMN_NAME "
+                + "AND a.TABLE_NAME = ? "
+                + "WHERE c.TABLE_SCHEMA = DATABASE() AND c.TABLE_NAME = ? ORDER BY c.ORDINAL_POSITION",
+                String.class, table + "_archive", table);
+    }
+
+    private Set<String> partitionNames(String table) {
+        return new TreeSet<>(jdbcTemplate.queryForList("SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+                + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                String.class, table));
+    }
+
+    static Optional<YearMonth> monthOf(String partition) {
+        try {
+            return Optional.of(YearMonth.parse(partition, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
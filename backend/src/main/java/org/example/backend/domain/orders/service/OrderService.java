@@ -5,15 +5,21 @@ import static org.example.backend.global.common.constants.BaseResponseStatus.*;
 
 import com.siot.IamportRestClient.exception.IamportResponseException;
 import com.siot.IamportRestClient.response.Payment;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.domain.board.model.entity.ProductBoard;
 import org.example.backend.domain.board.product.model.entity.Product;
 import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
 import org.example.backend.domain.board.repository.ProductBoardRepository;
 import org.example.backend.domain.company.model.entity.Company;
 import org.example.backend.domain.orders.model.dto.OrderedProductDto;
@@ -22,17 +28,22 @@ import org.example.backend.domain.orders.model.entity.OrderedProduct;
 import org.example.backend.domain.orders.model.entity.Orders;
 import org.example.backend.domain.orders.repository.OrderedProductRepository;
 import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.domain.orders.service.StockHoldService.Claim;
 import org.example.backend.domain.orders.validator.OrdersValidator;
 import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.domain.user.service.PointService;
 import org.example.backend.global.common.constants.OrderStatus;
 import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.utils.OrderNumberGenerator;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Slf4j
@@ -47,6 +58,12 @@ public class OrderService {
     private final OrderedProductRepository orderedProductRepository;
     private final ProductRepository productRepository;
     private final ProductBoardRepository productBoardRepository;
+    private final StockManager stockManager;
+    private final StockHoldService stockHoldService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final SalesSummaryService salesSummaryService;
+    private final PointService pointService;
+    private final TransactionTemplate transactionTemplate;
 
     private final OrdersValidator ordersValidator;
 
@@ -55,7 +72,7 @@ public class OrderService {
 
         ordersValidator.validateOrder(request, user.getIdx(), LocalDateTime.now());
 
-        Orders order = OrderRegisterRequest.toEntity(request.getBoardIdx(), user);
+        Orders order = OrderRegisterRequest.toEntity(request.getBoardIdx(), user, orderNumberGenerator.generate());
         Orders savedOrder = ordersRepository.save(order);
 
         List<OrderedProduct> orderedProducts = request.getOrderedProducts().stream()
@@ -63,6 +80,7 @@ public class OrderService {
                 .collect(Collectors.toList());
 
         orderedProductRepository.saveAll(orderedProducts);
+        stockHoldService.hold(savedOrder.getIdx(), request.toStockQuantities()); // 결제 완료까지 재고 선점 유지
 
         return OrderCreateResponse.builder()
                 .orderIdx(savedOrder.getIdx())
@@ -71,6 +89,10 @@ public class OrderService {
 
 
     public void complete(User user, OrderCompleteRequest request) {
+        completePayment(getCompletableOrder(user, request), request);
+    }
+
+    public Orders getCompletableOrder(User user, OrderCompleteRequest request) {
 
         Orders order = ordersRepository.findById(request.getOrderIdx()).orElseThrow(() -> new InvalidCustomException(
                 ORDER_FAIL_NOT_FOUND));
@@ -79,33 +101,105 @@ public class OrderService {
             log.info("[Faild] Order complete failed: user idx not same [db idx : {}, user idx : {}]", order.getUser().getIdx(),user.getIdx());
             throw new InvalidCustomException(ORDER_PAYMENT_FAIL);
         }
+        return order;
+    }
 
-        order.update(request); // 주문 추가 정보 업데이트
+    // 결제 조회/검증 후 주문 상태 변경, 각 단계 소요 시간은 orders.complete.stage 로 기록
+    public void completePayment(Orders order, OrderCompleteRequest request) {
+        Claim claim = stockHoldService.claim(order);
+        if (claim == Claim.REJECTED) { // 이미 처리된 주문의 결제 정보 / 재고 / 상태는 건드리지 않음
+            log.info("[Faild] Order complete failed: order not payable [Order ID : {}]", order.getIdx());
+            throw new InvalidCustomException(ORDER_FAIL_NOT_PAYABLE);
+        }
+        order.update(request); // 주문 추가 정보 업데이트, 결제 확인이 중단돼도 다시 확인할 수 있도록 먼저 저장
         ordersRepository.save(order);
+        verifyPayment(order, claim);
+    }
 
-        String paymentId = request.getPaymentId();
+    // 결제 확인이 중단된 주문(결제 정보를 저장한 결제 시간 만료 주문)을 저장된 결제 정보로 다시 확인
+    public void recoverPayment(Orders order) {
+        Claim claim = stockHoldService.claim(order);
+        if (claim == Claim.REJECTED) { // 다른 요청이 먼저 가져간 주문
+            throw new InvalidCustomException(ORDER_FAIL_NOT_PAYABLE);
+        }
+        verifyPayment(order, claim);
+    }
+
+    private void verifyPayment(Orders order, Claim claim) {
+        Long userIdx = order.getUser().getIdx();
+        boolean settled = false;
 
         try {
-            Payment payment = paymentService.getPaymentInfo(paymentId);
-            paymentService.validatePayment(payment, order);
-            order.getUser().deductPoints(order.getUsedPoint());
+            Timer.Sample sample = Timer.start();
+            Payment payment = paymentService.getPaymentInfo(order.getPaymentId());
+            sample = stopStage(sample, "payment_lookup");
+            if (claim == Claim.SOLD_OUT) { // 결제 시간이 지난 사이 재고가 팔림
+                paymentService.refund(payment.getImpUid(), payment);
+                throw new InvalidCustomException(ORDER_CREATE_FAIL_LACK_STOCK);
+            }
+            transactionTemplate.executeWithoutResult(status -> { // 포인트 / 재고 차감과 주문 완료를 함께 반영
+                paymentService.validatePayment(payment, order);
+                // 결제 확인이 멈춘 것으로 보고 OrderSweeper 가 가져간 주문은 OrderSweeper 가 다시 확인
+                if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_COMPLETE) == 0) {
+                    throw new InvalidCustomException(ORDER_FAIL_NOT_PAYABLE);
+                }
+            });
             order.setStatus(OrderStatus.ORDER_COMPLETE);
-            ordersRepository.save(order);
-            orderQueueService.exitQueue(order.getBoardIdx(), user.getIdx());
+            settled = true;
+            sample = stopStage(sample, "payment_validation");
+            recordSales(order);
+            sample = stopStage(sample, "sales_summary");
+            orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
+            stopStage(sample, "exit_queue");
 
         } catch (IamportResponseException | IOException e) { // 해당하는 결제 정보를 찾지 못했을 때
             log.info("[Faild] Order complete failed: payment info not found");
-            order.setStatus(OrderStatus.ORDER_FAIL);
-            ordersRepository.save(order);
-            orderQueueService.exitQueue(order.getBoardIdx(), user.getIdx());
+            fail(order);
+            settled = true;
+            orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
             throw new InvalidCustomException(ORDER_PAYMENT_FAIL);
 
         } catch (InvalidCustomException e) { // 결제 검증 중 발생한 예외 처리
-            order.setStatus(OrderStatus.ORDER_FAIL);
-            ordersRepository.save(order);
-            orderQueueService.exitQueue(order.getBoardIdx(), user.getIdx());
+            fail(order);
+            settled = true;
+            orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
             throw e;
+
+        } finally { // 예상하지 못한 오류(결제 정보 파싱, 저장 실패 등)는 결제 시간 만료로 돌리고 선점 재고 반환, OrderSweeper 가 다시 확인
+            if (!settled) {
+                stockHoldService.releaseClaimed(order, OrderStatus.PAYMENT_EXPIRED);
+            }
+        }
+    }
+
+    // 결제 확인 중인 주문만 주문 실패로 바꾸고 선점 재고 반환
+    private void fail(Orders order) {
+        stockHoldService.releaseClaimed(order, OrderStatus.ORDER_FAIL);
+        order.setStatus(OrderStatus.ORDER_FAIL);
+    }
+
+    // 판매 집계 실패는 결제된 주문에 영향을 주지 않음, 반영되지 않은 주문은 SalesSummaryService.reconcile 이 다시 반영
+    private void recordSales(Orders order) {
+        try {
+            salesSummaryService.recordComplete(order);
+        } catch (RuntimeException e) {
+            log.info("[Faild] Sales summary update failed [Order ID : {}]", order.getIdx(), e);
+        }
+    }
+
+    public OrderStatusResponse getOrderStatus(User user, Long orderIdx) {
+        Orders order = ordersRepository.findById(orderIdx)
+                .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_NOT_FOUND));
+
+        if (!user.getIdx().equals(order.getUser().getIdx())) {
+            throw new InvalidCustomException(ORDER_FAIL_DETAIL);
         }
+        return order.toOrderStatusResponse();
+    }
+
+    private Timer.Sample stopStage(Timer.Sample sample, String stage) {
+        sample.stop(Metrics.timer("orders.complete.stage", "stage", stage));
+        return Timer.start();
     }
 
     @Transactional
@@ -117,7 +211,15 @@ public class OrderService {
             throw new InvalidCustomException(ORDER_CANCEL_FAIL);
         }
 
+        if (order.getStatus() == OrderStatus.PAYMENT_VERIFYING) { // 결제 확인이 끝난 뒤 취소 (결제 / 재고 처리 중)
+            throw new InvalidCustomException(ORDER_CANCEL_FAIL_VERIFYING);
+        }
+
         if (order.getStatus() !=  OrderStatus.ORDER_COMPLETE) {
+            boolean payable = order.getStatus() == OrderStatus.PAYMENT_WAIT || order.getStatus() == OrderStatus.PAYMENT_EXPIRED;
+            if (payable && !stockHoldService.cancel(order)) { // 조회 후 결제 확인이 시작된 주문
+                throw new InvalidCustomException(ORDER_CANCEL_FAIL_VERIFYING);
+            }
             ordersRepository.delete(order);
             orderQueueService.exitQueue(order.getBoardIdx(), user.getIdx());
             return;
@@ -131,8 +233,9 @@ public class OrderService {
             String impUid = order.getPaymentId();
             try {
                 Payment payment = paymentService.getPaymentInfo(impUid);
+                salesSummaryService.recordCancel(order); // 환불 전에 반영해서 실패하면 환불하지 않고 롤백
                 paymentService.refund(impUid, payment);
-                order.getUser().earnPoints(order.getUsedPoint());
+                pointService.restore(user.getIdx(), order.getIdx(), order.getUsedPoint());
 
                 order.setStatus(OrderStatus.ORDER_CANCEL);
 
@@ -144,25 +247,18 @@ public class OrderService {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void rollbackStock(Orders order) {
-        List<OrderedProduct> orderedProducts = order.getOrderedProducts();
-
-        orderedProducts.forEach((orderedProduct) -> {
-            Product product = productRepository.findByIdWithLock(orderedProduct.getProductIdx())
-                    .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND));
-            product.increaseStock(orderedProduct.getQuantity());
-
-        });
+        stockManager.restore(order.toStockQuantities());
     }
 
     public Page<CompanyOrderListResponse> companyOrderList(Company company, Integer page, String status, Integer month) {
         Pageable pageable = PageRequest.of(page - 1, COMPANY_PAGE_SIZE, Sort.Direction.DESC, "idx");
 
-        Page<Orders> orders = ordersRepository.historyWithPaging(company, pageable, status, month);
-        return orders.map(order -> {
-            String title = productBoardRepository.findById(order.getBoardIdx())
-                    .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND)).getTitle();
-            return order.toCompanyOrderListResponse(title);
-        });
+        return ordersRepository.companyHistoryWithPaging(company, pageable, status, month);
+    }
+
+    // 이전 페이지 마지막 주문 idx(cursor) 이후부터 조회, 페이지가 깊어져도 첫 페이지와 비용이 같음
+    public Slice<CompanyOrderListResponse> companyOrderListByCursor(Company company, Long cursor, String status, Integer month) {
+        return ordersRepository.companyHistoryWithCursor(company, cursor, COMPANY_PAGE_SIZE, status, month);
     }
 
     public CompanyOrderDetailResponse companyOrderDetail(Company company, Long orderIdx) {
@@ -177,8 +273,13 @@ public class OrderService {
         }
 
         List<OrderedProduct> orederdProducts = order.getOrderedProducts();
+        Map<Long, Product> productMap = productRepository.findAllById(order.toStockQuantities().keySet()).stream()
+                .collect(Collectors.toMap(Product::getIdx, Function.identity())); // 주문 상품을 IN 쿼리 한 번으로 조회
         List<OrderedProductResponse> products = orederdProducts.stream().map(orderdProduct ->{
-            Product product = productRepository.findById(orderdProduct.getProductIdx()).orElseThrow();
+            Product product = productMap.get(orderdProduct.getProductIdx());
+            if (product == null) {
+                throw new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND);
+            }
             return orderdProduct.toOrderedProductResponse(product, board.getDiscountRate());
         }
         ).collect(Collectors.toList());
@@ -190,11 +291,25 @@ public class OrderService {
         Pageable pageable = PageRequest.of(page - 1, USER_PAGE_SIZE, Sort.Direction.DESC, "idx");
 
         Page<Orders> orders = ordersRepository.historyWithPaging(user, pageable, status, month);
-        return orders.map(order -> {
-            ProductBoard board = productBoardRepository.findById(order.getBoardIdx())
-                    .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND));
+        return orders.map(toUserOrderListResponse(orders.getContent()));
+    }
+
+    public Slice<UserOrderListResponse> userOrderListByCursor(User user, Long cursor, String status, Integer month) {
+        Slice<Orders> orders = ordersRepository.historyWithCursor(user, cursor, USER_PAGE_SIZE, status, month);
+        return orders.map(toUserOrderListResponse(orders.getContent()));
+    }
+
+    private Function<Orders, UserOrderListResponse> toUserOrderListResponse(List<Orders> orders) {
+        Set<Long> boardIdxSet = orders.stream().map(Orders::getBoardIdx).collect(Collectors.toSet());
+        Map<Long, ProductBoard> boardMap = productBoardRepository.findAllById(boardIdxSet).stream()
+                .collect(Collectors.toMap(ProductBoard::getIdx, Function.identity())); // 페이지의 게시글을 IN 쿼리 한 번으로 조회
+        return order -> {
+            ProductBoard board = boardMap.get(order.getBoardIdx());
+            if (board == null) {
+                throw new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND);
+            }
             return order.toUserOrderListResponse(board);
-        });
+        };
     }
 
     public UserOrderDetailResponse userOrderDetail(User user, Long orderIdx) {
@@ -0,0 +1,177 @@
+package org.example.backend.domain.orders.service;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 결제되지 않은 주문 정리
+ * - 선점 ttl + grace 가 지나도 결제 대기인 주문은 만료 처리하고 선점 재고 반환 (타이밍 휠 만료가 누락된 경우)
+ * - verifying-timeout 동안 상태가 바뀌지 않은 결제 확인 중 주문은 (서버 재시작, 작업 스레드 오류 등으로 결제 확인이 멈춘 주문)
+ *   결제 시간 만료로 돌리고 선점 재고 반환
+ * - 결제 정보가 저장된 결제 시간 만료 주문은 결제 확인이 중단된 주문이므로 PortOne 결제 정보로 다시 확인해서
+ *   주문 완료 / 주문 실패(결제 취소)로 끝내고 결제 완료 요청의 중복 방지 키에 결과를 남김
+ * - retention 이 지난 결제 시간 만료 / 주문 실패 주문은 주문 상품과 함께 삭제
+ *   결제 정보(paymentId)가 있는 주문은 결제 후 환불에 실패한 주문일 수 있으므로 삭제하지 않음
+ * - 상태별로 batch-size 개씩 idx 순서로 이어서 처리하고, 배치마다 짧은 트랜잭션으로 끝냄
+ *   오래된 주문만 대상이라 판매 중인 게시글의 최근 주문 행은 잠그지 않음
+ * - 한 번에 max-batches 까지만 처리하고 남은 주문은 다음 주기에 처리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.sweep.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderSweeper {
+    private static final List<OrderStatus> DELETABLE = List.of(OrderStatus.PAYMENT_EXPIRED, OrderStatus.ORDER_FAIL);
+
+    private final OrdersRepository ordersRepository;
+    private final StockHoldService stockHoldService;
+    private final OrderCompletionService orderCompletionService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration abandonedAfter;
+    private final Duration verifyingTimeout;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public OrderSweeper(OrdersRepository ordersRepository, StockHoldService stockHoldService,
+                        OrderCompletionService orderCompletionService,
+                        PlatformTransactionManager transactionManager,
+                        @Value("${stock.hold.ttl:5m}") Duration holdTtl,
+                        @Value("${order.sweep.grace:5m}") Duration grace,
+                        @Value("${order.sweep.verifying-timeout:10m}") Duration verifyingTimeout,
+                        @Value("${order.sweep.retention:1d}") Duration retention,
+                        @Value("${order.sweep.batch-size:500}") int batchSize,
+                        @Value("${order.sweep.max-batches:20}") int maxBatches) {
+        this.ordersRepository = ordersRepository;
+        this.stockHoldService = stockHoldService;
+        this.orderCompletionService = orderCompletionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.abandonedAfter = holdTtl.plus(grace);
+        this.verifyingTimeout = verifyingTimeout;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(fixedDelayString = "${order.sweep.interval:60000}", initialDelayString = "${order.sweep.interval:60000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int expired = expireAbandoned(now.minus(abandonedAfter));
+        int stalled = expireStalled(now.minus(verifyingTimeout));
+        int recovered = recoverInterrupted();
+        long deleted = 0;
+        for (OrderStatus status : DELETABLE) {
+            deleted += deleteStale(status, now.minus(retention));
+        }
+        if (expired > 0 || stalled > 0 || recovered > 0 || deleted > 0) {
+            log.info("[Order Sweep] Swept orders [expired : {}, stalled : {}, recovered : {}, deleted : {}]",
+                    expired, stalled, recovered, deleted);
+        }
+    }
+
+    int expireAbandoned(LocalDateTime createdBefore) {
+        long cursor = 0;
+        int expired = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> idxList = ordersRepository.findSweepableIdx(OrderStatus.PAYMENT_WAIT, createdBefore, cursor, batchSize);
+            if (idxList.isEmpty()) {
+                break;
+            }
+            cursor = idxList.get(idxList.size() - 1);
+            for (Orders order : ordersRepository.findAllWithProductsByIdxIn(idxList)) {
+                if (stockHoldService.expireAbandoned(order)) {
+                    expired++;
+                }
+            }
+            if (idxList.size() < batchSize) {
+                break;
+            }
+        }
+        Metrics.counter("orders.sweep", "action", "expired", "status", OrderStatus.PAYMENT_WAIT.name()).increment(expired);
+        return expired;
+    }
+
+    int expireStalled(LocalDateTime modifiedBefore) {
+        long cursor = 0;
+        int stalled = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> idxList = ordersRepository.findStaleIdx(OrderStatus.PAYMENT_VERIFYING, modifiedBefore, cursor, batchSize);
+            if (idxList.isEmpty()) {
+                break;
+            }
+            cursor = idxList.get(idxList.size() - 1);
+            for (Orders order : ordersRepository.findAllWithProductsByIdxIn(idxList)) {
+                if (stockHoldService.releaseClaimed(order, OrderStatus.PAYMENT_EXPIRED)) {
+                    stalled++;
+                }
+            }
+            if (idxList.size() < batchSize) {
+                break;
+            }
+        }
+        Metrics.counter("orders.sweep", "action", "expired", "status", OrderStatus.PAYMENT_VERIFYING.name()).increment(stalled);
+        return stalled;
+    }
+
+    // 다시 확인한 주문은 주문 완료 / 주문 실패가 되고, 다른 요청이 가져간 주문은 건너뜀
+    int recoverInterrupted() {
+        long cursor = 0;
+        int recovered = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> idxList = ordersRepository.findInterruptedIdx(cursor, batchSize);
+            if (idxList.isEmpty()) {
+                break;
+            }
+            cursor = idxList.get(idxList.size() - 1);
+            for (Orders order : ordersRepository.findAllWithProductsByIdxIn(idxList)) {
+                try {
+                    if (orderCompletionService.recover(order)) {
+                        recovered++;
+                    }
+                } catch (RuntimeException e) { // 결제 조회 실패 등은 다음 주기에 다시 확인
+                    log.warn("[Faild] Order recover failed: [Order ID : {}]", order.getIdx(), e);
+                }
+            }
+            if (idxList.size() < batchSize) {
+                break;
+            }
+        }
+        Metrics.counter("orders.sweep", "action", "recovered", "status", OrderStatus.PAYMENT_EXPIRED.name()).increment(recovered);
+        return recovered;
+    }
+
+    long deleteStale(OrderStatus status, LocalDateTime createdBefore) {
+        long cursor = 0;
+        long deleted = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<Long> idxList = ordersRepository.findSweepableIdx(status, createdBefore, cursor, batchSize);
+            if (idxList.isEmpty()) {
+                break;
+            }
+            cursor = idxList.get(idxList.size() - 1);
+
+            Timer.Sample sample = Timer.start();
+            Long count = transactionTemplate.execute(tx -> ordersRepository.deleteSweepable(idxList, DELETABLE));
+            sample.stop(Metrics.timer("orders.sweep.batch", "status", status.name()));
+            deleted += count == null ? 0 : count;
+
+            if (idxList.size() < batchSize) {
+                break;
+            }
+        }
+        Metrics.counter("orders.sweep", "action", "deleted", "status", status.name()).increment(deleted);
+        return deleted;
+    }
+}
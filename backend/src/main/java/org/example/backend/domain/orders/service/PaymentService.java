@@ -1,6 +1,5 @@
 package org.example.backend.domain.orders.service;
 
-import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK;
 import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_FAIL_PRODUCT_NOT_FOUND;
 import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_PAYMENT_CANCEL_FAILED;
 import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_VALIDATION_FAIL_PRICE_MISMATCH;
@@ -16,12 +15,16 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.backend.domain.board.product.model.entity.Product;
 import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
 import org.example.backend.domain.orders.model.entity.OrderedProduct;
 import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.user.service.PointService;
 import org.example.backend.global.exception.InvalidCustomException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +35,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class PaymentService {
     private final IamportClient iamportClient;
     private final ProductRepository productRepository;
+    private final StockManager stockManager;
+    private final PointService pointService;
 
     public Payment getPaymentInfo(String impUid) throws IamportResponseException, IOException {
         IamportResponse<Payment> iamportResponse = iamportClient.paymentByImpUid(impUid);
@@ -46,17 +51,26 @@ public class PaymentService {
         Gson gson = new Gson();
         Map<String, Object> data = gson.fromJson(customData, Map.class);
 
-        Integer usedPoint = (Double.valueOf(data.get("usedPoint").toString())).intValue();
         Integer discountRate = (Double.valueOf(data.get("discountRate").toString())).intValue();
         Integer amount = payment.getAmount().intValue();
 
-        AtomicLong totalPrice = validateAndDecreaseStock(payment, usedPoint, order, discountRate);
+        // 차감과 취소 시 복구 모두 주문에 저장된 사용 포인트 기준, 결제 정보(customData)의 값이 다르면 결제 취소
+        Integer usedPoint = order.getUsedPoint() == null ? 0 : order.getUsedPoint().intValue();
+        Long paidPoint = data.get("usedPoint") == null ? null : Double.valueOf(data.get("usedPoint").toString()).longValue();
+        if (paidPoint == null || paidPoint != usedPoint.longValue()) {
+            log.info("[Faild] Order complete failed: used point mismatch [Order ID : {}, order : {}, payment : {}]", order.getIdx(), usedPoint, paidPoint);
+            refund(payment.getImpUid(), payment);
+            throw new InvalidCustomException(ORDER_VALIDATION_FAIL_PRICE_MISMATCH);
+        }
 
-        if (usedPoint > order.getUser().getPoint()) {
+        // 잔액이 충분할 때만 차감, 이후 재고 처리에 실패하면 트랜잭션과 함께 롤백됨
+        if (!pointService.use(order.getUser().getIdx(), order.getIdx(), usedPoint.longValue())) {
             refund(payment.getImpUid(), payment);
             throw new InvalidCustomException(ORDER_VALIDATION_FAIL_PRICE_MISMATCH);
         }
 
+        AtomicLong totalPrice = validateAndDecreaseStock(payment, usedPoint, order, discountRate);
+
        // if (amount != totalPrice.intValue()) {
        //     refund(payment.getImpUid(), payment);
        //     throw new InvalidCustomException(ORDER_VALIDATION_FAIL_PRICE_MISMATCH);
@@ -68,27 +82,30 @@ public class PaymentService {
 
         AtomicLong totalPrice = new AtomicLong(-usedPoint.longValue()); // 결제해야할 총 금액
 
+        Map<Long, Integer> quantities = order.toStockQuantities();
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getIdx, Function.identity()));
+
         List<OrderedProduct> orderedProducts = order.getOrderedProducts();
         orderedProducts.forEach((orderdProduct) -> {
-            Product product = productRepository.findByIdWithLock(orderdProduct.getProductIdx())
-                        .orElseThrow(
-                                () -> new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND)); // 해당하는 상품을 찾을 수가 없을 때
-
-            if (orderdProduct.getQuantity() > product.getStock()) {
-                refund(payment.getImpUid(), payment);
-                throw new InvalidCustomException(ORDER_CREATE_FAIL_LACK_STOCK); // 재고 수량 없을 때
+            Product product = products.get(orderdProduct.getProductIdx());
+            if (product == null) {
+                throw new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND); // 해당하는 상품을 찾을 수가 없을 때
             }
 
-            product.decreaseStock(orderdProduct.getQuantity()); // 재고 수량 변경
-            productRepository.save(product);
-
-
             long originalPrice = product.getPrice();
             int quantity = orderdProduct.getQuantity();
             totalPrice.updateAndGet(v -> (long) (v + (originalPrice * quantity * (1 - discountRate / 100.0))));
 
         });
 
+        try {
+            stockManager.confirm(quantities); // 재고 수량 변경
+        } catch (InvalidCustomException e) { // 재고 수량 없을 때
+            refund(payment.getImpUid(), payment);
+            throw e;
+        }
+
         return totalPrice;
     }
 
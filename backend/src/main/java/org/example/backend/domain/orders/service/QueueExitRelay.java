@@ -0,0 +1,125 @@
+package org.example.backend.domain.orders.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.orders.model.entity.QueueExitOutbox;
+import org.example.backend.domain.orders.repository.QueueExitOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 에 쌓인 대기열 퇴장 요청을 대기열 서버로 전송
+ * - 한 번에 batch-size 만큼 가져와서 같은 (boardIdx, userIdx) 요청은 한 번만 전송
+ * - 가져갈 때 조건부 UPDATE 로 claimToken 을 남기고 lease 만큼 다음 시도를 미뤄서 여러 서버가 같은 요청을 보내지 않음
+ *   가져간 서버가 내려가면 lease 가 지난 뒤 다른 서버가 다시 가져감
+ * - 실패하면 재시도 간격을 2배씩 늘리고, max-attempts 를 넘기면 로그를 남기고 버림
+ * - 대기열 서버 호출이 느려도 다른 @Scheduled 작업이 밀리지 않도록 전용 스레드에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.mode", havingValue = "remote", matchIfMissing = true)
+public class QueueExitRelay {
+    private final RemoteOrderQueueService orderQueueService;
+    private final QueueExitOutboxRepository queueExitOutboxRepository;
+
+    @Value("${queue.outbox.batch-size:100}")
+    private int batchSize;
+    @Value("${queue.outbox.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${queue.outbox.backoff:1000}")
+    private long backoffMillis;
+    @Value("${queue.outbox.max-backoff:60000}")
+    private long maxBackoffMillis;
+    @Value("${queue.outbox.lease:30000}")
+    private long leaseMillis;
+    @Value("${queue.outbox.relay-interval:500}")
+    private long relayIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "queue-exit-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                relay();
+            } catch (RuntimeException e) { // 예외가 나가면 다음 실행이 취소되므로 로그만 남김
+                log.warn("[Order Exit Queue] Relay failed", e);
+            }
+        }, relayIntervalMillis, relayIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now();
+        List<QueueExitOutbox> events = claim(now);
+        if (events.isEmpty()) {
+            return;
+        }
+
+        Map<List<Long>, List<QueueExitOutbox>> coalesced = events.stream()
+                .collect(Collectors.groupingBy(event -> List.of(event.getBoardIdx(), event.getUserIdx()), LinkedHashMap::new, Collectors.toList()));
+
+        List<Long> done = new ArrayList<>();
+        List<QueueExitOutbox> retries = new ArrayList<>();
+        coalesced.forEach((key, duplicates) -> {
+            if (orderQueueService.sendExitQueue(key.get(0), key.get(1))) {
+                duplicates.forEach(event -> done.add(event.getIdx()));
+                return;
+            }
+            duplicates.forEach(event -> {
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    log.warn("[Order Exit Queue] Give up queue exit [board idx : {}, user idx : {}, attempts : {}]",
+                            event.getBoardIdx(), event.getUserIdx(), event.getAttempts() + 1);
+                    done.add(event.getIdx());
+                } else {
+                    long backoff = Math.min(backoffMillis << Math.min(event.getAttempts(), 20), maxBackoffMillis);
+                    event.retryAt(now.plusNanos(backoff * 1_000_000));
+                    retries.add(event);
+                }
+            });
+        });
+
+        if (!done.isEmpty()) {
+            queueExitOutboxRepository.deleteAllByIdInBatch(done);
+        }
+        if (!retries.isEmpty()) {
+            queueExitOutboxRepository.saveAll(retries);
+        }
+    }
+
+    private List<QueueExitOutbox> claim(LocalDateTime now) {
+        List<Long> idxList = queueExitOutboxRepository.findDueIdx(now, PageRequest.of(0, batchSize));
+        if (idxList.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        if (queueExitOutboxRepository.claim(idxList, claimToken, now, now.plusNanos(leaseMillis * 1_000_000)) == 0) {
+            return List.of(); // 다른 서버가 먼저 가져감
+        }
+        return queueExitOutboxRepository.findAllByClaimTokenOrderByIdx(claimToken);
+    }
+}
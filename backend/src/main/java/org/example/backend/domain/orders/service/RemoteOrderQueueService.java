@@ -0,0 +1,60 @@
+package org.example.backend.domain.orders.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.orders.model.entity.QueueExitOutbox;
+import org.example.backend.domain.orders.repository.QueueExitOutboxRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.mode", havingValue = "remote", matchIfMissing = true)
+public class RemoteOrderQueueService implements OrderQueueService {
+    private final RestTemplate restTemplate;
+    private final QueueExitOutboxRepository queueExitOutboxRepository;
+
+    private final String QUEUE_URL = "/queue";
+
+    // 대기열 퇴장 요청을 outbox 에 저장하고 QueueExitRelay 가 전송
+    // 실패 처리 중 주문 트랜잭션이 롤백되어도 퇴장 요청은 남도록 별도 트랜잭션으로 저장
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void exitQueue(Long boardIdx, Long userIdx) {
+        queueExitOutboxRepository.save(QueueExitOutbox.builder()
+                .boardIdx(boardIdx)
+                .userIdx(userIdx)
+                .attempts(0)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    public boolean sendExitQueue(Long boardIdx, Long userIdx) {
+        // 요청 본문을 Map으로 생성
+        Map<String, Long> requestBody = new HashMap<>();
+        requestBody.put("boardIdx", boardIdx);
+        requestBody.put("userIdx", userIdx);
+
+        try {
+            // RestTemplate으로 POST 요청 전송
+            ResponseEntity<String> response = restTemplate.postForEntity(QUEUE_URL + "/delete", requestBody, String.class);
+            if (response.getStatusCode().is2xxSuccessful()) {
+                log.info("[Order Exit Queue] Queue deletion successful");
+                return true;
+            }
+            log.info("[Order Exit Queue] Failed to delete queue token");
+        } catch (RestClientException e) {
+            log.info("[Order Exit Queue] Failed to delete queue token [{}]", e.getMessage());
+        }
+        return false;
+    }
+}
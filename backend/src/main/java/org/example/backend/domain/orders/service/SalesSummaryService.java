@@ -0,0 +1,276 @@
+package org.example.backend.domain.orders.service;
+
+import static org.example.backend.domain.orders.model.dto.OrderDto.*;
+import static org.example.backend.global.common.constants.BaseResponseStatus.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.entity.BoardSalesSummary;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.BoardSalesSummaryRepository;
+import org.example.backend.domain.orders.repository.OrderedProductRepository;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 판매자 대시보드용 게시글 판매 집계
+ * - 주문 완료 / 취소 시 변화량만 upsert 하므로 조회 시 orders, ordered_product 를 집계하지 않음
+ * - 주문 완료는 주문 상태를 커밋한 뒤 반영하고, 실패해도 주문 완료에는 영향을 주지 않음
+ *   주문 상품 금액을 저장한 주문만 반영된 주문으로 보고, 반영되지 않은 주문은 reconcile-interval 마다 다시 반영
+ * - 취소는 주문 취소와 같은 트랜잭션에서 주문 완료 때 저장한 금액을 뺌
+ * - 자주 조회하는 게시글은 cache-ttl 동안 서버 메모리에서 응답 (이 서버에서 집계가 바뀌면 바로 제거)
+ */
+@Slf4j
+@Service
+public class SalesSummaryService {
+    private final BoardSalesSummaryRepository boardSalesSummaryRepository;
+    private final ProductBoardRepository productBoardRepository;
+    private final ProductRepository productRepository;
+    private final OrderedProductRepository orderedProductRepository;
+    private final OrdersRepository ordersRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+    private final long cacheTtlMillis;
+    private final Map<Long, CachedSales> cache;
+
+    public SalesSummaryService(BoardSalesSummaryRepository boardSalesSummaryRepository,
+                               ProductBoardRepository productBoardRepository,
+                               ProductRepository productRepository,
+                               OrderedProductRepository orderedProductRepository,
+                               OrdersRepository ordersRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${order.sales-summary.reconcile-batch-size:100}") int reconcileBatchSize,
+                               @Value("${order.sales-summary.cache-ttl:5s}") Duration cacheTtl,
+                               @Value("${order.sales-summary.cache-size:1000}") int cacheSize) {
+        this.boardSalesSummaryRepository = boardSalesSummaryRepository;
+        this.productBoardRepository = productBoardRepository;
+        this.productRepository = productRepository;
+        this.orderedProductRepository = orderedProductRepository;
+        this.ordersRepository = ordersRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.cacheTtlMillis = cacheTtl.toMillis();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) { // 가장 오래 조회하지 않은 게시글부터 제거
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedSales> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    // 주문 완료 시점의 상품 가격으로 금액을 계산해 주문 상품에 저장하고 집계에 더함, 주문 완료를 커밋한 뒤 호출
+    // 이미 반영된 주문이면 (재시도, 다른 서버의 reconcile) 아무것도 하지 않음
+    @Transactional
+    public void recordComplete(Orders order) {
+        if (storeAmounts(order)) {
+            accumulate(order, 1, OrderedProduct::getAmount);
+        }
+    }
+
+    // 주문 완료 때 저장한 금액을 빼므로 이후 상품 가격이 바뀌어도 집계가 어긋나지 않음, 주문 취소와 같은 트랜잭션에서 호출
+    public void recordCancel(Orders order) {
+        if (order.getOrderedProducts().stream().allMatch(orderedProduct -> orderedProduct.getAmount() != null)) {
+            accumulate(order, -1, OrderedProduct::getAmount);
+        } else if (!storeAmounts(order)) { // 반영되지 않은 주문은 금액만 저장해서 reconcile 대상에서 제외
+            accumulate(order, -1, currentAmount(order)); // 조회 이후 다른 서버가 반영한 경우
+        }
+    }
+
+    // 주문 완료 후 판매 집계에 반영되지 않은 주문을 다시 반영
+    @Scheduled(fixedDelayString = "${order.sales-summary.reconcile-interval:60000}", initialDelayString = "${order.sales-summary.reconcile-interval:60000}")
+    public void reconcile() {
+        long cursor = 0;
+        int recorded = 0;
+        List<Long> idxList;
+        do {
+            idxList = ordersRepository.findUnrecordedIdx(OrderStatus.ORDER_COMPLETE, cursor, reconcileBatchSize);
+            if (idxList.isEmpty()) {
+                break;
+            }
+            cursor = idxList.get(idxList.size() - 1);
+            for (Orders order : ordersRepository.findAllWithProductsByIdxIn(idxList)) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> recordComplete(order));
+                    recorded++;
+                } catch (RuntimeException e) {
+                    log.info("[Faild] Sales summary reconcile failed [Order ID : {}]", order.getIdx(), e);
+                }
+            }
+        } while (idxList.size() == reconcileBatchSize);
+        if (recorded > 0) {
+            log.info("[Sales Summary] Reconciled orders [count : {}]", recorded);
+        }
+    }
+
+    public BoardSalesResponse getBoardSales(Company company, Long boardIdx) {
+        CachedSales cached = getCached(boardIdx);
+        if (cached == null) {
+            cached = load(boardIdx);
+            putCached(boardIdx, cached);
+        }
+        if (!company.getIdx().equals(cached.companyIdx())) {
+            throw new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND);
+        }
+        return cached.response();
+    }
+
+    // 주문 상품 idx 순서로 금액을 저장, 첫 주문 상품에 이미 금액이 있으면 (다른 트랜잭션이 먼저 저장) false
+    // 같은 주문을 동시에 저장하면 첫 주문 상품의 행 잠금에서 순서가 정해짐
+    private boolean storeAmounts(Orders order) {
+        List<OrderedProduct> orderedProducts = order.getOrderedProducts().stream()
+                .sorted(Comparator.comparing(OrderedProduct::getIdx))
+                .toList();
+        ToLongFunction<OrderedProduct> currentAmount = currentAmount(order);
+        for (int i = 0; i < orderedProducts.size(); i++) {
+            OrderedProduct orderedProduct = orderedProducts.get(i);
+            long amount = currentAmount.applyAsLong(orderedProduct);
+            if (orderedProductRepository.updateAmountIfAbsent(orderedProduct.getIdx(), amount) == 0 && i == 0) {
+                return false;
+            }
+            orderedProduct.updateAmount(amount);
+        }
+        return !orderedProducts.isEmpty();
+    }
+
+    private void accumulate(Orders order, int sign, ToLongFunction<OrderedProduct> amountOf) {
+        Map<Long, long[]> sales = new TreeMap<>(); // 상품 idx 순, {수량, 금액}
+        for (OrderedProduct orderedProduct : order.getOrderedProducts()) {
+            long[] sale = sales.computeIfAbsent(orderedProduct.getProductIdx(), productIdx -> new long[2]);
+            sale[0] += orderedProduct.getQuantity();
+            sale[1] += amountOf.applyAsLong(orderedProduct);
+        }
+
+        List<BoardSalesSummary> deltas = new ArrayList<>();
+        long totalUnits = 0;
+        long totalGrossAmount = 0;
+        for (Map.Entry<Long, long[]> entry : sales.entrySet()) {
+            long units = entry.getValue()[0];
+            long grossAmount = entry.getValue()[1];
+            totalUnits += units;
+            totalGrossAmount += grossAmount;
+            deltas.add(delta(order.getBoardIdx(), entry.getKey(), sign, sign * units, sign * grossAmount, 0L));
+        }
+        long usedPoint = order.getUsedPoint() == null ? 0 : order.getUsedPoint();
+        deltas.add(0, delta(order.getBoardIdx(), BoardSalesSummary.BOARD_TOTAL, sign,
+                sign * totalUnits, sign * totalGrossAmount, sign * usedPoint));
+
+        boardSalesSummaryRepository.accumulate(deltas);
+        evictAfterCommit(order.getBoardIdx());
+    }
+
+    // 현재 상품 가격과 게시글 할인율로 계산한 주문 상품 금액
+    private ToLongFunction<OrderedProduct> currentAmount(Orders order) {
+        ProductBoard board = productBoardRepository.findById(order.getBoardIdx())
+                .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND));
+        Map<Long, Product> productMap = productRepository.findAllById(order.toStockQuantities().keySet()).stream()
+                .collect(Collectors.toMap(Product::getIdx, Function.identity()));
+        int discountRate = board.getDiscountRate() == null ? 0 : board.getDiscountRate();
+        return orderedProduct -> {
+            Product product = productMap.get(orderedProduct.getProductIdx());
+            return product == null ? 0 : Math.round(product.getPrice() * orderedProduct.getQuantity() * (1 - discountRate / 100.0));
+        };
+    }
+
+    // 커밋 전에 다른 요청이 변경 전 집계를 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 제거
+    private void evictAfterCommit(Long boardIdx) {
+        evict(boardIdx);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(boardIdx);
+                }
+            });
+        }
+    }
+
+    private BoardSalesSummary delta(Long boardIdx, Long productIdx, long orderCount, long units, long grossAmount, long usedPoint) {
+        return BoardSalesSummary.builder()
+                .boardIdx(boardIdx)
+                .productIdx(productIdx)
+                .orderCount(orderCount)
+                .units(units)
+                .grossAmount(grossAmount)
+                .usedPoint(usedPoint)
+                .build();
+    }
+
+    private CachedSales load(Long boardIdx) {
+        ProductBoard board = productBoardRepository.findById(boardIdx)
+                .orElseThrow(() -> new InvalidCustomException(ORDER_FAIL_EVENT_NOT_FOUND));
+        List<BoardSalesSummary> rows = boardSalesSummaryRepository.findAllByBoardIdx(boardIdx);
+        Map<Long, String> productNames = productRepository.findAllById(rows.stream()
+                        .filter(row -> !row.isBoardTotal())
+                        .map(BoardSalesSummary::getProductIdx)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getIdx, Product::getName));
+
+        BoardSalesSummary total = rows.stream().filter(BoardSalesSummary::isBoardTotal).findFirst()
+                .orElseGet(() -> delta(boardIdx, BoardSalesSummary.BOARD_TOTAL, 0, 0, 0, 0));
+        List<ProductSalesResponse> products = rows.stream()
+                .filter(row -> !row.isBoardTotal())
+                .map(row -> ProductSalesResponse.builder()
+                        .productIdx(row.getProductIdx())
+                        .name(productNames.get(row.getProductIdx()))
+                        .units(row.getUnits())
+                        .grossAmount(row.getGrossAmount())
+                        .build())
+                .toList();
+
+        BoardSalesResponse response = BoardSalesResponse.builder()
+                .boardIdx(boardIdx)
+                .title(board.getTitle())
+                .orderCount(total.getOrderCount())
+                .units(total.getUnits())
+                .grossAmount(total.getGrossAmount())
+                .usedPoint(total.getUsedPoint())
+                .products(products)
+                .build();
+        return new CachedSales(board.getCompany().getIdx(), response, System.currentTimeMillis() + cacheTtlMillis);
+    }
+
+    private synchronized CachedSales getCached(Long boardIdx) {
+        CachedSales cached = cache.get(boardIdx);
+        if (cached != null && cached.expiresAt() < System.currentTimeMillis()) {
+            cache.remove(boardIdx);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void putCached(Long boardIdx, CachedSales cached) {
+        cache.put(boardIdx, cached);
+    }
+
+    private synchronized void evict(Long boardIdx) {
+        cache.remove(boardIdx);
+    }
+
+    private record CachedSales(Long companyIdx, BoardSalesResponse response, long expiresAt) {
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.backend.domain.orders.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.board.product.service.StockManager;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.utils.TimingWheel;
+import org.example.backend.global.utils.TimingWheel.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * 주문 등록 시 선점한 재고를 결제 완료까지 ttl 동안만 유지
+ * - 선점의 주인은 orders.status 가 결제 대기(PAYMENT_WAIT)인 주문이고,
+ *   결제 완료 / 취소 / 만료 중 조건부 UPDATE 로 상태를 먼저 바꾼 쪽이 선점한 재고를 가져감
+ * - 결제 확인 중(PAYMENT_VERIFYING)인 주문은 항상 재고를 선점하고 있음 (만료된 주문은 가져갈 때 다시 선점)
+ *   결제 확인 중에서 다른 상태로 먼저 바꾼 쪽(결제 확인 요청 / OrderSweeper)만 선점한 재고를 반환
+ * - 만료 시점은 타이밍 휠로 관리하므로 orders 테이블을 주기적으로 조회하지 않음
+ */
+@Slf4j
+@Service
+public class StockHoldService {
+    private final StockManager stockManager;
+    private final OrdersRepository ordersRepository;
+    private final Duration ttl;
+    private final TimingWheel<Long> timingWheel;
+
+    // key : 주문 idx
+    private final Map<Long, StockHold> holds = new ConcurrentHashMap<>();
+
+    public StockHoldService(StockManager stockManager, OrdersRepository ordersRepository,
+                            @Value("${stock.hold.ttl:5m}") Duration ttl) {
+        this.stockManager = stockManager;
+        this.ordersRepository = ordersRepository;
+        this.ttl = ttl;
+        this.timingWheel = new TimingWheel<>("stock-hold-timer", Duration.ofSeconds(1), 512, this::expire);
+    }
+
+    public void hold(Long orderIdx, Map<Long, Integer> quantities) {
+        schedule(orderIdx, quantities, ttl);
+    }
+
+    // 결제 확인을 시작할 때 호출, 결제 대기 / 결제 시간 만료 주문을 결제 확인 중으로 먼저 바꾼 요청 하나만 진행
+    public Claim claim(Orders order) {
+        if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_VERIFYING) == 1) {
+            cancelTimer(order.getIdx());
+            order.setStatus(OrderStatus.PAYMENT_VERIFYING);
+            return Claim.HELD;
+        }
+        if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_EXPIRED, OrderStatus.PAYMENT_VERIFYING) == 1) {
+            try {
+                stockManager.reserve(order.toStockQuantities()); // 만료되면서 반환한 재고를 다시 선점
+            } catch (InvalidCustomException e) { // 그 사이 다른 주문이 재고를 가져감
+                ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_FAIL);
+                order.setStatus(OrderStatus.ORDER_FAIL);
+                return Claim.SOLD_OUT;
+            }
+            order.setStatus(OrderStatus.PAYMENT_VERIFYING);
+            return Claim.HELD;
+        }
+        return Claim.REJECTED;
+    }
+
+    // 주문 완료까지 가지 못한 결제 확인 중 주문을 to 상태로 바꾸고 선점 재고 반환
+    // 결제 실패는 주문 실패, 예상하지 못한 오류 / 멈춘 결제 확인은 결제 시간 만료로 돌려서 다시 결제 확인할 수 있게 함
+    public boolean releaseClaimed(Orders order, OrderStatus to) {
+        if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_VERIFYING, to) == 1) {
+            stockManager.release(order.toStockQuantities());
+            return true;
+        }
+        return false;
+    }
+
+    // 결제 전에 취소한 주문의 선점 재고 반환, 그 사이 결제 확인이 시작된 주문은 취소하지 못함
+    public boolean cancel(Orders order) {
+        if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL) == 1) {
+            cancelTimer(order.getIdx());
+            stockManager.release(order.toStockQuantities());
+            return true;
+        }
+        // 이미 만료된 주문은 반환할 선점이 없음
+        return ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_EXPIRED, OrderStatus.ORDER_CANCEL) == 1;
+    }
+
+    // 만료 처리가 누락된 오래된 결제 대기 주문을 만료시키고 선점 재고 반환
+    public boolean expireAbandoned(Orders order) {
+        if (ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_EXPIRED) == 1) {
+            cancelTimer(order.getIdx());
+            stockManager.release(order.toStockQuantities());
+            return true;
+        }
+        return false;
+    }
+
+    // 서버가 내려가 있던 동안의 결제 대기 주문을 다시 등록, 이미 만료된 주문은 바로 만료 처리
+    // 결제 확인 중에 서버가 내려간 주문도 선점을 다시 잡아 두고, 결제 확인은 OrderSweeper 가 다시 진행
+    @EventListener(ApplicationReadyEvent.class)
+    public void recover() {
+        List<Orders> orders = ordersRepository.findAllByStatusWithProducts(OrderStatus.PAYMENT_WAIT);
+        LocalDateTime now = LocalDateTime.now();
+        for (Orders order : orders) {
+            Map<Long, Integer> quantities = order.toStockQuantities();
+            if (!stockManager.recover(quantities)) {
+                ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_EXPIRED);
+                continue;
+            }
+            schedule(order.getIdx(), quantities, Duration.between(now, order.getCreatedAt().plus(ttl)));
+        }
+
+        List<Orders> verifying = ordersRepository.findAllByStatusWithProducts(OrderStatus.PAYMENT_VERIFYING);
+        for (Orders order : verifying) {
+            if (!stockManager.recover(order.toStockQuantities())) {
+                ordersRepository.updateStatus(order.getIdx(), OrderStatus.PAYMENT_VERIFYING, OrderStatus.PAYMENT_EXPIRED);
+            }
+        }
+        log.info("[Stock Hold] Recovered orders [payment wait : {}, payment verifying : {}]", orders.size(), verifying.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.stop();
+    }
+
+    private void schedule(Long orderIdx, Map<Long, Integer> quantities, Duration delay) {
+        holds.put(orderIdx, new StockHold(quantities, timingWheel.schedule(orderIdx, delay)));
+    }
+
+    private void cancelTimer(Long orderIdx) {
+        StockHold hold = holds.remove(orderIdx);
+        if (hold != null) {
+            hold.timeout().cancel();
+        }
+    }
+
+    // 같은 tick 에 만료된 주문들의 선점 재고를 한 번에 반환
+    private void expire(List<Long> orderIdxList) {
+        Map<Long, Integer> released = new TreeMap<>();
+        int expiredCount = 0;
+        for (Long orderIdx : orderIdxList) {
+            StockHold hold = holds.remove(orderIdx);
+            if (hold == null) {
+                continue;
+            }
+            if (ordersRepository.updateStatus(orderIdx, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_EXPIRED) == 1) {
+                hold.quantities().forEach((productIdx, quantity) -> released.merge(productIdx, quantity, Integer::sum));
+                expiredCount++;
+            }
+        }
+        if (!released.isEmpty()) {
+            stockManager.release(released);
+            log.info("[Stock Hold] Released expired holds [orders : {}, products : {}]", expiredCount, released);
+        }
+    }
+
+    public enum Claim {
+        HELD, // 재고를 선점하고 있음 (만료된 주문은 다시 선점)
+        SOLD_OUT, // 만료된 주문의 재고를 다시 선점하지 못해 주문 실패로 변경, 결제는 취소해야 함
+        REJECTED // 이미 완료 / 실패 / 취소됐거나 다른 요청이 결제 확인 중
+    }
+
+    private record StockHold(Map<Long, Integer> quantities, Timeout<Long> timeout) {
+    }
+}
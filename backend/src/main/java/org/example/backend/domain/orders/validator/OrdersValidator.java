@@ -2,27 +2,29 @@ package org.example.backend.domain.orders.validator;
 
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.board.model.entity.ProductBoard;
-import org.example.backend.domain.board.product.model.entity.Product;
-import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
 import org.example.backend.domain.board.repository.ProductBoardRepository;
 import org.example.backend.domain.orders.model.dto.OrderDto;
 import org.example.backend.domain.orders.service.OrderQueueService;
 import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.security.jwt.AdmissionTokenUtil;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 
 import static org.example.backend.global.common.constants.BaseResponseStatus.*;
-import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK;
 
 @Component
 @RequiredArgsConstructor
 public class OrdersValidator {
     private final ProductBoardRepository productBoardRepository;
     private final OrderQueueService orderQueueService;
-    private final ProductRepository productRepository;
+    private final StockManager stockManager;
+    private final AdmissionTokenUtil admissionTokenUtil;
     public void validateOrder(OrderDto.OrderRegisterRequest order, Long userIdx, LocalDateTime registerdAt){
 
+        admissionTokenUtil.verify(order.getAdmissionToken(), order.getBoardIdx(), userIdx); // 대기열을 거치지 않은 요청은 DB 조회 전에 거절
+
         ProductBoard board = productBoardRepository.findById(order.getBoardIdx())
                 .orElseThrow(() -> {
                     orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
@@ -38,17 +40,11 @@ public class OrdersValidator {
         }
 
 
-        order.getOrderedProducts().forEach((product) -> {
-            Product orderdProduct = productRepository.findByIdWithLock(product.getIdx())
-                    .orElseThrow(() -> {
-                        orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
-                        return new InvalidCustomException(ORDER_FAIL_PRODUCT_NOT_FOUND); // 해당하는 상품을 찾을 수가 없을 때
-                    });
-
-            if (product.getQuantity() > orderdProduct.getStock()) {
-                orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
-                throw new InvalidCustomException(ORDER_CREATE_FAIL_LACK_STOCK); // 재고 수량 없을 때
-            }
-        });
+        try {
+            stockManager.reserve(order.toStockQuantities()); // 재고 선점
+        } catch (InvalidCustomException e) { // 상품이 없거나 재고 수량 없을 때
+            orderQueueService.exitQueue(order.getBoardIdx(), userIdx);
+            throw e;
+        }
     }
 }
@@ -0,0 +1,37 @@
+package org.example.backend.domain.queue.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.queue.model.dto.QueueDto.QueueStatusResponse;
+import org.example.backend.domain.queue.service.EmbeddedQueueService;
+import org.example.backend.global.common.constants.BaseResponse;
+import org.example.backend.global.security.custom.model.dto.CustomUserDetails;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/queue")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "queue.mode", havingValue = "embedded")
+public class QueueController {
+    private final EmbeddedQueueService embeddedQueueService;
+
+    @Operation(summary = "대기열 입장 API")
+    @PostMapping("/{boardIdx}/enter")
+    public BaseResponse enter(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable Long boardIdx) {
+        QueueStatusResponse res = embeddedQueueService.enter(boardIdx, customUserDetails.getUser().getIdx());
+        return new BaseResponse(res);
+    }
+
+    @Operation(summary = "대기 순번 조회 API")
+    @GetMapping("/{boardIdx}/status")
+    public BaseResponse status(@AuthenticationPrincipal CustomUserDetails customUserDetails, @PathVariable Long boardIdx) {
+        QueueStatusResponse res = embeddedQueueService.status(boardIdx, customUserDetails.getUser().getIdx());
+        return new BaseResponse(res);
+    }
+}
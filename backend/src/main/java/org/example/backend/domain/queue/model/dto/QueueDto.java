@@ -0,0 +1,18 @@
+package org.example.backend.domain.queue.model.dto;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+public class QueueDto {
+    @Builder
+    @Getter
+    public static class QueueStatusResponse {
+        private Long boardIdx;
+        private Long position; // 앞에 남은 인원
+        private Long etaSeconds; // 예상 대기 시간
+        private Boolean admitted;
+        private LocalDateTime admissionExpiresAt;
+        private String admissionToken; // 주문 등록 시 전달
+    }
+}
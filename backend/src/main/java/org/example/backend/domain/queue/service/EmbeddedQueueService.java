@@ -0,0 +1,124 @@
+package org.example.backend.domain.queue.service;
+
+import static org.example.backend.global.common.constants.BaseResponseStatus.QUEUE_FAIL_NOT_ENTERED;
+import static org.example.backend.global.common.constants.BaseResponseStatus.QUEUE_NOT_FOUND;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.domain.board.service.ProductBoardQueueService;
+import org.example.backend.domain.orders.service.OrderQueueService;
+import org.example.backend.domain.queue.model.dto.QueueDto.QueueStatusResponse;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.security.jwt.AdmissionTokenUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 외부 대기열 서버 없이 서버 메모리에서 게시글별 대기열 운영 (queue.mode: embedded)
+ * - 매 초 admit-rate 명씩 입장 허가, 허가 후 admission-ttl 안에 주문하지 않으면 대기열에서 제거
+ * - 대기열이 서버 메모리에 있으므로 단일 서버 배포와 부하 테스트에서 사용
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "queue.mode", havingValue = "embedded")
+public class EmbeddedQueueService implements ProductBoardQueueService, OrderQueueService {
+    private final ProductBoardRepository productBoardRepository;
+    private final AdmissionTokenUtil admissionTokenUtil;
+    private final int admitRate;
+    private final long admissionTtlMillis;
+
+    // key : 게시글 idx
+    private final Map<Long, WaitingRoom> rooms = new ConcurrentHashMap<>();
+
+    public EmbeddedQueueService(ProductBoardRepository productBoardRepository, AdmissionTokenUtil admissionTokenUtil,
+                                @Value("${queue.embedded.admit-rate:100}") int admitRate,
+                                @Value("${queue.embedded.admission-ttl:5m}") Duration admissionTtl) {
+        this.productBoardRepository = productBoardRepository;
+        this.admissionTokenUtil = admissionTokenUtil;
+        this.admitRate = admitRate;
+        this.admissionTtlMillis = admissionTtl.toMillis();
+    }
+
+    @Override
+    public Boolean createQueue(Long productBoardIdx, LocalDateTime endedAt) {
+        rooms.putIfAbsent(productBoardIdx, new WaitingRoom(endedAt));
+        return true;
+    }
+
+    @Override
+    public void exitQueue(Long boardIdx, Long userIdx) {
+        WaitingRoom room = rooms.get(boardIdx);
+        if (room != null) {
+            room.exit(userIdx);
+        }
+    }
+
+    public QueueStatusResponse enter(Long boardIdx, Long userIdx) {
+        room(boardIdx).enter(userIdx);
+        return status(boardIdx, userIdx);
+    }
+
+    public QueueStatusResponse status(Long boardIdx, Long userIdx) {
+        WaitingRoom room = room(boardIdx);
+        long position = room.position(userIdx);
+        if (position < 0) {
+            throw new InvalidCustomException(QUEUE_FAIL_NOT_ENTERED);
+        }
+
+        Long expiresAt = room.admissionExpiresAt(userIdx, admissionTtlMillis);
+        return QueueStatusResponse.builder()
+                .boardIdx(boardIdx)
+                .position(position)
+                .etaSeconds((position + admitRate - 1) / admitRate)
+                .admitted(expiresAt != null)
+                .admissionExpiresAt(expiresAt == null ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAt), ZoneId.systemDefault()))
+                .admissionToken(expiresAt == null ? null : admissionTokenUtil.createToken(boardIdx, userIdx, new Date(expiresAt)))
+                .build();
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void admit() {
+        long now = System.currentTimeMillis();
+        LocalDateTime dateTime = LocalDateTime.now();
+        rooms.entrySet().removeIf(entry -> entry.getValue().isClosed(dateTime)); // 판매가 끝난 게시글의 대기열 제거
+        rooms.values().forEach(room -> {
+            room.expire(now, admissionTtlMillis);
+            room.admit(admitRate, now);
+        });
+    }
+
+    // 판매가 끝난 게시글의 대기열은 다음 입장 처리를 기다리지 않고 바로 제거
+    @EventListener
+    public void onBoardStatusChanged(BoardStatusChangedEvent event) {
+        if (event.status() == BoardStatus.DONE) {
+            event.boardIdxList().forEach(rooms::remove);
+        }
+    }
+
+    // 서버 재시작 등으로 대기열이 없으면 게시글 종료 시간으로 다시 생성
+    private WaitingRoom room(Long boardIdx) {
+        WaitingRoom room = rooms.get(boardIdx);
+        if (room != null) {
+            return room;
+        }
+        LocalDateTime endedAt = productBoardRepository.findById(boardIdx)
+                .orElseThrow(() -> new InvalidCustomException(QUEUE_NOT_FOUND))
+                .getEndedAt();
+        if (endedAt.isBefore(LocalDateTime.now())) {
+            throw new InvalidCustomException(QUEUE_NOT_FOUND);
+        }
+        return rooms.computeIfAbsent(boardIdx, idx -> new WaitingRoom(endedAt));
+    }
+}
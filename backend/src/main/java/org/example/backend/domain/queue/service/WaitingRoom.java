@@ -0,0 +1,157 @@
+package org.example.backend.domain.queue.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품게시글 하나의 대기열
+ * - 입장 순서대로 번호표(ticket)를 발급하고, admittedTicket 이하 번호표는 입장 허가
+ * - 입장 허가는 아직 대기 중인 번호표 순서대로 하고, 나간 사용자의 번호표는 건너뜀
+ * - 남은 인원은 대기 중인 번호표 수로 계산 (앞 사람이 나가면 줄어듦)
+ * - 입장 허가는 허가된 시점부터 ttl 동안만 유효하고, 지나면 대기열에서 제거
+ * 번호표 발급 / 입장 허가는 원자적 카운터와 동시성 맵으로 처리하고, 대기 중인 번호표 수만 LiveTickets 에서 잠금
+ */
+public class WaitingRoom {
+    private final LocalDateTime endedAt;
+
+    private final AtomicLong lastTicket = new AtomicLong();
+    private final AtomicLong admittedTicket = new AtomicLong();
+
+    // key : 사용자 idx, value : 번호표
+    private final Map<Long, Long> tickets = new ConcurrentHashMap<>();
+    // key : 번호표, value : 사용자 idx
+    private final ConcurrentSkipListMap<Long, Long> owners = new ConcurrentSkipListMap<>();
+    // key : 한 번에 허가된 마지막 번호표, value : 허가 시각(ms)
+    private final ConcurrentSkipListMap<Long, Long> admittedAt = new ConcurrentSkipListMap<>();
+    private final LiveTickets liveTickets = new LiveTickets();
+
+    public WaitingRoom(LocalDateTime endedAt) {
+        this.endedAt = endedAt;
+    }
+
+    public long enter(Long userIdx) {
+        Long ticket = tickets.get(userIdx);
+        if (ticket != null) {
+            return ticket;
+        }
+        long issued = lastTicket.incrementAndGet();
+        ticket = tickets.putIfAbsent(userIdx, issued);
+        if (ticket != null) { // 같은 사용자의 동시 입장, 먼저 받은 번호표 사용
+            return ticket;
+        }
+        owners.put(issued, userIdx);
+        liveTickets.add(issued, 1);
+        return issued;
+    }
+
+    public void exit(Long userIdx) {
+        Long ticket = tickets.remove(userIdx);
+        if (ticket != null && owners.remove(ticket) != null) {
+            liveTickets.add(ticket, -1);
+        }
+    }
+
+    public boolean contains(Long userIdx) {
+        return tickets.containsKey(userIdx);
+    }
+
+    // 앞에 남은 인원 (본인 포함, 0 이면 입장 허가)
+    public long position(Long userIdx) {
+        Long ticket = tickets.get(userIdx);
+        if (ticket == null) {
+            return -1;
+        }
+        long admitted = admittedTicket.get();
+        if (ticket <= admitted) {
+            return 0;
+        }
+        return liveTickets.count(ticket) - liveTickets.count(admitted);
+    }
+
+    // 입장 허가가 만료되는 시각(ms), 아직 허가되지 않았으면 null
+    public Long admissionExpiresAt(Long userIdx, long ttlMillis) {
+        Long ticket = tickets.get(userIdx);
+        if (ticket == null || ticket > admittedTicket.get()) {
+            return null;
+        }
+        Map.Entry<Long, Long> batch = admittedAt.ceilingEntry(ticket);
+        return batch == null ? null : batch.getValue() + ttlMillis;
+    }
+
+    // 대기 중인 번호표 count 개 입장 허가
+    public void admit(int count, long now) {
+        long from = admittedTicket.get();
+        long to = from;
+        int admitted = 0;
+        for (Long ticket : owners.tailMap(from, false).keySet()) {
+            to = ticket;
+            if (++admitted == count) {
+                break;
+            }
+        }
+        if (to > from && admittedTicket.compareAndSet(from, to)) {
+            admittedAt.put(to, now);
+        }
+    }
+
+    // 허가 후 ttl 이 지난 번호표 제거
+    public void expire(long now, long ttlMillis) {
+        Map.Entry<Long, Long> batch;
+        while ((batch = admittedAt.firstEntry()) != null && batch.getValue() + ttlMillis <= now) {
+            admittedAt.remove(batch.getKey());
+            for (Map.Entry<Long, Long> expired : owners.headMap(batch.getKey(), true).entrySet()) {
+                if (owners.remove(expired.getKey(), expired.getValue())) { // 그 사이 나간 사용자는 exit 에서 처리
+                    tickets.remove(expired.getValue(), expired.getKey());
+                    liveTickets.add(expired.getKey(), -1);
+                }
+            }
+        }
+    }
+
+    public boolean isClosed(LocalDateTime now) {
+        return endedAt != null && endedAt.isBefore(now);
+    }
+
+    // 번호표별 대기 중 여부의 누적 합 (펜윅 트리), 번호표 이하 대기 인원을 O(log n) 으로 계산
+    private static class LiveTickets {
+        private int[] tree = new int[1024];
+
+        synchronized void add(long ticket, int delta) {
+            grow(ticket);
+            for (int i = (int) ticket; i < tree.length; i += i & -i) {
+                tree[i] += delta;
+            }
+        }
+
+        // ticket 이하 대기 중인 번호표 수
+        synchronized long count(long ticket) {
+            long sum = 0;
+            for (int i = (int) Math.min(ticket, tree.length - 1); i > 0; i -= i & -i) {
+                sum += tree[i];
+            }
+            return sum;
+        }
+
+        // 새 구간은 비어 있으므로, 앞 구간을 포함하는 칸만 기존 누적 합으로 채움
+        private void grow(long ticket) {
+            if (ticket < tree.length) {
+                return;
+            }
+            int length = tree.length;
+            while (length <= ticket) {
+                length <<= 1;
+            }
+            int last = tree.length - 1;
+            int[] grown = Arrays.copyOf(tree, length);
+            for (int i = tree.length; i < length; i++) {
+                int start = i - (i & -i);
+                grown[i] = start < last ? (int) (count(last) - count(start)) : 0;
+            }
+            tree = grown;
+        }
+    }
+}
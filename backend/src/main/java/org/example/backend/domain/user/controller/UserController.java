@@ -8,6 +8,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.backend.domain.user.model.dto.UserAuthTokenDto;
 import org.example.backend.domain.user.model.dto.UserDto;
+import org.example.backend.domain.user.service.PointService;
 import org.example.backend.domain.user.service.UserAuthTokenService;
 import org.example.backend.domain.user.service.UserService;
 import org.example.backend.global.common.constants.BaseResponse;
@@ -15,6 +16,7 @@ import org.example.backend.global.common.constants.BaseResponseStatus;
 import org.example.backend.global.common.constants.SwaggerDescription;
 import org.example.backend.global.common.constants.SwaggerExamples;
 import org.example.backend.global.security.custom.model.dto.CustomUserDetails;
+import org.springframework.data.domain.Page;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
@@ -25,6 +27,7 @@ public class UserController {
 
     private final UserService userService;
     private final UserAuthTokenService userAuthTokenService;
+    private final PointService pointService;
 
     @Operation(summary = "일반회원가입 API", description = SwaggerDescription.USER_SIGNUP_REQUEST,
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
@@ -99,4 +102,13 @@ public class UserController {
         userService.editDetail(userDetails.getIdx(),request);
         return new BaseResponse();
     }
+
+    @Operation(summary = "포인트 내역 조회 API")
+    @GetMapping("/points")
+    public BaseResponse<Page<UserDto.PointHistoryResponse>> getPointHistory(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(defaultValue = "1") Integer page
+    ){
+        return new BaseResponse<>(pointService.history(userDetails.getIdx(), page));
+    }
 }
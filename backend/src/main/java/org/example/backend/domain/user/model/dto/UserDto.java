@@ -177,6 +177,17 @@ public class UserDto {
         private Long point;
     }
 
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class PointHistoryResponse{
+        private Long orderIdx;
+        private String type;
+        private Long amount;
+        private LocalDateTime createdAt;
+    }
+
     @Getter
     @NoArgsConstructor
     @AllArgsConstructor
@@ -0,0 +1,45 @@
+package org.example.backend.domain.user.model.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.example.backend.domain.user.model.dto.UserDto;
+import org.example.backend.global.common.constants.PointType;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 포인트 변경 내역 (추가만 하고 수정하지 않음), 주문 하나에 사용 / 사용 취소는 한 번씩만 기록됨
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_point_history_user", columnList = "userIdx, idx"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_point_history_order_type", columnNames = {"orderIdx", "type"}))
+public class PointHistory {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long idx;
+
+    private Long userIdx;
+    private Long orderIdx;
+
+    @Enumerated(EnumType.STRING)
+    private PointType type;
+    private Long amount; // 사용은 음수, 사용 취소는 양수
+
+    @CreatedDate
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    public UserDto.PointHistoryResponse toPointHistoryResponse() {
+        return UserDto.PointHistoryResponse.builder()
+                .orderIdx(this.orderIdx)
+                .type(this.type.getType())
+                .amount(this.amount)
+                .createdAt(this.createdAt)
+                .build();
+    }
+}
@@ -59,14 +59,6 @@ public class User {
     private List<Likes> likes;
 
 
-    public void deductPoints(Long point) {
-        this.point -= point;
-    }
-
-    public void earnPoints(Long point) {
-        this.point += point;
-    }
-
  
     public UserDto.UserDetailResponse toUserDetailResponse(){
         return UserDto.UserDetailResponse.builder()
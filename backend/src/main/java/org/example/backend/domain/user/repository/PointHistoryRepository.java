@@ -0,0 +1,15 @@
+package org.example.backend.domain.user.repository;
+
+import org.example.backend.domain.user.model.entity.PointHistory;
+import org.example.backend.global.common.constants.PointType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+    Page<PointHistory> findAllByUserIdx(Long userIdx, Pageable pageable);
+
+    boolean existsByOrderIdxAndType(Long orderIdx, PointType type);
+}
@@ -2,6 +2,8 @@ package org.example.backend.domain.user.repository;
 
 import org.example.backend.domain.user.model.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -13,4 +15,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmailAndIdx(String email, Long idx);
 
     Optional<User> findByIdx(Long idx);
+
+    // 잔액이 충분할 때만 차감 (변경된 행 수 반환)
+    @Modifying
+    @Query("UPDATE User u SET u.point = u.point - :point WHERE u.idx = :idx AND u.point >= :point")
+    int deductPoints(Long idx, Long point);
+
+    @Modifying
+    @Query("UPDATE User u SET u.point = u.point + :point WHERE u.idx = :idx")
+    int earnPoints(Long idx, Long point);
 }
@@ -0,0 +1,65 @@
+package org.example.backend.domain.user.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.backend.domain.user.model.dto.UserDto;
+import org.example.backend.domain.user.model.entity.PointHistory;
+import org.example.backend.domain.user.repository.PointHistoryRepository;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.global.common.constants.PointType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 잔액 변경은 user 행에 대한 조건부 UPDATE 한 번으로 처리 (User 를 조회해서 수정하지 않음)
+ * 변경할 때마다 point_history 에 내역을 추가하고, 주문 하나에 사용 / 사용 취소는 한 번씩만 반영
+ */
+@Service
+@RequiredArgsConstructor
+public class PointService {
+    private static final int PAGE_SIZE = 10;
+
+    private final UserRepository userRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+
+    // 잔액이 부족하면 false, 이미 사용 처리된 주문이면 다시 차감하지 않고 true
+    @Transactional
+    public boolean use(Long userIdx, Long orderIdx, Long point) {
+        if (point == null || point <= 0 || pointHistoryRepository.existsByOrderIdxAndType(orderIdx, PointType.USE)) {
+            return true;
+        }
+        if (userRepository.deductPoints(userIdx, point) == 0) {
+            return false;
+        }
+        pointHistoryRepository.save(PointHistory.builder()
+                .userIdx(userIdx)
+                .orderIdx(orderIdx)
+                .type(PointType.USE)
+                .amount(-point)
+                .build());
+        return true;
+    }
+
+    @Transactional
+    public void restore(Long userIdx, Long orderIdx, Long point) {
+        if (point == null || point <= 0 || pointHistoryRepository.existsByOrderIdxAndType(orderIdx, PointType.RESTORE)) {
+            return;
+        }
+        userRepository.earnPoints(userIdx, point);
+        pointHistoryRepository.save(PointHistory.builder()
+                .userIdx(userIdx)
+                .orderIdx(orderIdx)
+                .type(PointType.RESTORE)
+                .amount(point)
+                .build());
+    }
+
+    public Page<UserDto.PointHistoryResponse> history(Long userIdx, Integer page) {
+        Pageable pageable = PageRequest.of(page - 1, PAGE_SIZE, Sort.Direction.DESC, "idx");
+        return pointHistoryRepository.findAllByUserIdx(userIdx, pageable)
+                .map(PointHistory::toPointHistoryResponse);
+    }
+}
@@ -103,6 +103,11 @@ public enum BaseResponseStatus {
     ORDER_FAIL_PAYMENT_NOT_FOUND(false, 3016, "주문에 실패했습니다. 결제 정보를 찾을 수 없습니다."),
     ORDER_PAYMENT_CANCEL_FAILED(false, 3017,"결제 취소 요청 중 오류가 발생했습니다. 관리자에게 문의해주세요."),
     ORDER_FAIL_UNOPENED_EVENT(false, 3018, "주문에 실패했습니다. 오픈 예정인 이벤트입니다."),
+    ORDER_FAIL_INVALID_ADMISSION(false, 3019, "주문에 실패했습니다. 대기열 입장 정보가 유효하지 않습니다."),
+    ORDER_FAIL_EXPORT_PERIOD(false, 3020, "주문내역 내보내기에 실패했습니다. 조회 기간이 올바르지 않습니다."),
+    ORDER_FAIL_DUPLICATE_PAYMENT(false, 3021, "주문에 실패했습니다. 이미 다른 주문에 사용된 결제 정보입니다."),
+    ORDER_FAIL_NOT_PAYABLE(false, 3022, "주문에 실패했습니다. 이미 처리되었거나 결제 확인 중인 주문입니다."),
+    ORDER_CANCEL_FAIL_VERIFYING(false, 3023, "주문 취소에 실패했습니다. 결제 확인 중인 주문입니다."),
 
     // 상품게시글 기능 4000
     PRODUCT_BOARD_REGISTER_FAIL_EMPTY_TITLE(false, 4000, "상품게시글 등록에 실패했습니다. 제목을 입력해주세요"),
@@ -167,6 +172,11 @@ public enum BaseResponseStatus {
     QNA_PRODUCT_BOARD_NOT_FOUND(false, 6021, "상품 게시글을 찾을 수 없습니다."),
 
 
+    // 대기열 기능 7000
+    QUEUE_NOT_FOUND(false, 7000, "대기열을 찾을 수 없습니다."),
+    QUEUE_FAIL_NOT_ENTERED(false, 7001, "대기열에 입장하지 않았거나 입장 시간이 만료되었습니다."),
+
+
     // 모든 요청 실패 9000
     FAIL(false, 9000, "요청에 실패했습니다. 관리자에게 문의해주세요."),
     FAIL_UNAUTHORIZED(false, 9001, "요청이 실패했습니다. 권한이 없습니다.");
@@ -6,6 +6,8 @@ import java.util.Arrays;
 public enum OrderStatus {
 
     PAYMENT_WAIT("결제 대기"),
+    PAYMENT_VERIFYING("결제 확인 중"),
+    PAYMENT_EXPIRED("결제 시간 만료"),
     ORDER_COMPLETE("주문 완료"),
     ORDER_FAIL("주문 실패"),
     ORDER_CANCEL("주문 취소");
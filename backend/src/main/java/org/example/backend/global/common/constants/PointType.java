@@ -0,0 +1,14 @@
+package org.example.backend.global.common.constants;
+
+public enum PointType {
+    USE("사용"),
+    RESTORE("사용 취소");
+    private final String type;
+    PointType(final String type) {
+        this.type = type;
+    }
+
+    public String getType() {
+        return type;
+    }
+}
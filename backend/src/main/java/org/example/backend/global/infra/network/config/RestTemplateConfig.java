@@ -1,20 +1,108 @@
 package org.example.backend.global.infra.network.config;
 
+import java.net.URI;
+import java.time.Duration;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultSchemePortResolver;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.routing.RoutingSupport;
+import org.apache.hc.client5.http.routing.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * 외부 호출용 RestTemplate 설정
+ * 모든 RestTemplate 이 커넥션 풀(keep-alive)을 공유하는 HttpClient 하나를 사용
+ * - restTemplate : 대기열 서버 (domain 기준 상대 경로)
+ * - externalRestTemplate : 국세청 API 등 전체 URL 로 호출하는 외부 API
+ */
 @Configuration
 public class RestTemplateConfig {
 	@Value("${domain}")
 	private String domain;
 
+	@Value("${http.client.max-total:200}")
+	private int maxTotal;
+	@Value("${http.client.max-per-route:20}")
+	private int maxPerRoute;
+	@Value("${http.client.queue-max-per-route:100}")
+	private int queueMaxPerRoute;
+	@Value("${http.client.connect-timeout:2s}")
+	private Duration connectTimeout;
+	@Value("${http.client.read-timeout:5s}")
+	private Duration readTimeout;
+	@Value("${http.client.connection-request-timeout:1s}")
+	private Duration connectionRequestTimeout;
+	@Value("${http.client.idle-timeout:30s}")
+	private Duration idleTimeout;
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager httpClientConnectionManager() {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(maxTotal)
+			.setMaxConnPerRoute(maxPerRoute)
+			.setDefaultConnectionConfig(ConnectionConfig.custom()
+				.setConnectTimeout(Timeout.of(connectTimeout))
+				.setSocketTimeout(Timeout.of(readTimeout))
+				.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+				.setTimeToLive(TimeValue.ofMinutes(5))
+				.build())
+			.build();
+
+		// 주문 흐름에서 가장 많이 호출하는 대기열 서버는 경로별 커넥션 수를 따로 지정
+		// domain 에 포트가 없으면 scheme 기본 포트로 채워야 HttpClient 가 만드는 경로와 같아짐
+		HttpHost queueHost = RoutingSupport.normalize(HttpHost.create(URI.create(domain)), DefaultSchemePortResolver.INSTANCE);
+		connectionManager.setMaxPerRoute(new HttpRoute(queueHost, null, "https".equalsIgnoreCase(queueHost.getSchemeName())), queueMaxPerRoute);
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+		return HttpClients.custom()
+			.setConnectionManager(httpClientConnectionManager)
+			.setDefaultRequestConfig(RequestConfig.custom()
+				.setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout)) // 풀에서 커넥션을 기다리는 시간
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.of(idleTimeout))
+			.build();
+	}
+
+	// httpcomponents.httpclient.pool.* (사용 중 / 대기 / 최대 커넥션 수), httpclient 태그 : outbound
 	@Bean
-	public RestTemplate restTemplate(RestTemplateBuilder builder) {
+	public MeterBinder httpClientConnectionPoolMetrics(PoolingHttpClientConnectionManager httpClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(httpClientConnectionManager, "outbound");
+	}
+
+	@Bean
+	@Primary
+	public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
 		return builder
 			.rootUri(domain)
+			.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
+			.build();
+	}
+
+	@Bean
+	public RestTemplate externalRestTemplate(RestTemplateBuilder builder, CloseableHttpClient httpClient) {
+		return builder
+			.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient))
 			.build();
 	}
 }
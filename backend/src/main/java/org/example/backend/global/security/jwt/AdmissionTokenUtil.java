@@ -0,0 +1,72 @@
+package org.example.backend.global.security.jwt;
+
+import static org.example.backend.global.common.constants.BaseResponseStatus.ORDER_FAIL_INVALID_ADMISSION;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * 대기열 입장 토큰 발급/검증
+ * 대기열 서버와 같은 키로 서명하므로 주문 등록 시 대기열 서버에 묻지 않고 입장 여부를 확인
+ * claim : type(admission), boardIdx, userIdx, exp
+ * queue.admission.enforce 를 지정하지 않으면 토큰을 발급하는 서버 내 대기열(embedded)에서만 검증
+ * (외부 대기열 서버는 아직 입장 토큰을 발급하지 않음)
+ */
+@Slf4j
+@Component
+public class AdmissionTokenUtil {
+    private static final String TOKEN_TYPE = "admission";
+
+    private final SecretKey secretKey;
+    private final boolean enforce;
+
+    public AdmissionTokenUtil(@Value("${queue.admission.secret}") String secret,
+                              @Value("${queue.mode:remote}") String queueMode,
+                              @Value("${queue.admission.enforce:#{null}}") Boolean enforce) {
+        this.secretKey = new SecretKeySpec(
+                secret.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm()
+        );
+        this.enforce = enforce == null ? "embedded".equals(queueMode) : enforce;
+    }
+
+    public String createToken(Long boardIdx, Long userIdx, Date expiration) {
+        return Jwts.builder()
+                .claim("type", TOKEN_TYPE)
+                .claim("boardIdx", boardIdx)
+                .claim("userIdx", userIdx)
+                .issuedAt(new Date(System.currentTimeMillis()))
+                .expiration(expiration)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    // 해당 게시글, 해당 사용자에게 발급된 만료되지 않은 토큰이 아니면 예외
+    public void verify(String token, Long boardIdx, Long userIdx) {
+        if (!enforce) {
+            return;
+        }
+
+        try {
+            Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+            if (TOKEN_TYPE.equals(claims.get("type", String.class))
+                    && boardIdx.equals(claims.get("boardIdx", Long.class))
+                    && userIdx.equals(claims.get("userIdx", Long.class))) {
+                return;
+            }
+        } catch (JwtException | IllegalArgumentException e) { // 서명 불일치, 만료, 토큰 없음
+            log.info("[Faild] Order register failed: invalid admission token [board idx : {}, user idx : {}]", boardIdx, userIdx);
+        }
+        throw new InvalidCustomException(ORDER_FAIL_INVALID_ADMISSION);
+    }
+}
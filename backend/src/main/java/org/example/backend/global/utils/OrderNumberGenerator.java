@@ -0,0 +1,62 @@
+package org.example.backend.global.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 번호 생성기 (Snowflake 방식)
+ * 63bit = 기준 시각 이후 경과 시간(ms) 41bit + 서버 번호 10bit + 같은 ms 안의 순번 12bit
+ * - 서버 번호가 다르면 서로 겹치지 않고, 한 서버 안에서는 CAS 로 (시간, 순번)을 증가시켜 겹치지 않음
+ * - 파티션 테이블에는 orders_number unique 키가 없어서 서버 번호(order.number.node-id)는 기본값 없이 서버마다 지정해야 함
+ * - 순번이 다 차거나 시계가 뒤로 가면 기다리지 않고 다음 ms 를 앞당겨 사용
+ * - Crockford Base32 (I, L, O, U 제외) 13자리로 인코딩해서 시간 순으로 정렬됨
+ */
+@Component
+public class OrderNumberGenerator {
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int LENGTH = 13;
+    private static final char[] CODE_CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    // 마지막으로 발급한 (경과 시간 << SEQUENCE_BITS | 순번)
+    private final AtomicLong lastState = new AtomicLong();
+
+    public OrderNumberGenerator(@Value("${order.number.node-id}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("order.number.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.");
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        long next;
+        while (true) {
+            long last = lastState.get();
+            long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            next = Math.max(now, last + 1); // 같은 ms 면 순번 증가, 순번이 넘치면 다음 ms 로 넘어감
+            if (lastState.compareAndSet(last, next)) {
+                break;
+            }
+        }
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+    }
+
+    public String generate() {
+        return encode(nextId());
+    }
+
+    public static String encode(long id) {
+        char[] code = new char[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            code[i] = CODE_CHARS[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(code);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.backend.global.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 해시드 타이밍 휠
+ * 예약된 작업을 tick 단위 버킷에 나눠 담고, 전용 스레드 하나가 매 tick 마다 해당 버킷만 확인해서
+ * 만료된 작업들을 한 번에 expiryHandler 로 넘긴다. (예약/취소 O(1), DB 폴링 없음)
+ */
+@Slf4j
+public class TimingWheel<T> {
+    private final long tickMillis;
+    private final List<Queue<Timeout<T>>> wheel;
+    private final Queue<Timeout<T>> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Consumer<List<T>> expiryHandler;
+    private final Thread worker;
+    private final long startTime;
+    private long tick;
+    private volatile boolean running = true;
+
+    public TimingWheel(String name, Duration tickDuration, int wheelSize, Consumer<List<T>> expiryHandler) {
+        this.tickMillis = tickDuration.toMillis();
+        this.wheel = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            wheel.add(new LinkedList<>());
+        }
+        this.expiryHandler = expiryHandler;
+        this.startTime = System.currentTimeMillis();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    public Timeout<T> schedule(T task, Duration delay) {
+        long deadline = System.currentTimeMillis() - startTime + Math.max(delay.toMillis(), 0);
+        Timeout<T> timeout = new Timeout<>(task, (deadline + tickMillis - 1) / tickMillis);
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                long sleepMillis = startTime + (tick + 1) * tickMillis - System.currentTimeMillis();
+                if (sleepMillis > 0) {
+                    Thread.sleep(sleepMillis);
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            }
+            tick++;
+            transferPendingTimeouts();
+            List<T> expired = expireBucket(wheel.get((int) (tick % wheel.size())));
+            if (!expired.isEmpty()) {
+                try {
+                    expiryHandler.accept(expired);
+                } catch (RuntimeException e) {
+                    log.warn("[Timing Wheel] Expiry handler failed [{} tasks]", expired.size(), e);
+                }
+            }
+        }
+    }
+
+    // 예약 요청은 워커 스레드에서만 버킷에 옮겨 담아 버킷 동기화를 피함
+    private void transferPendingTimeouts() {
+        Timeout<T> timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = Math.max(timeout.deadlineTick, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.size();
+            wheel.get((int) (deadlineTick % wheel.size())).add(timeout);
+        }
+    }
+
+    private List<T> expireBucket(Queue<Timeout<T>> bucket) {
+        List<T> expired = new ArrayList<>();
+        Iterator<Timeout<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout<T> timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+            } else if (timeout.remainingRounds <= 0) {
+                iterator.remove();
+                expired.add(timeout.task);
+            } else {
+                timeout.remainingRounds--;
+            }
+        }
+        return expired;
+    }
+
+    public static class Timeout<T> {
+        private final T task;
+        private final long deadlineTick;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(T task, long deadlineTick) {
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
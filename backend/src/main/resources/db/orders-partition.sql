@@ -0,0 +1,72 @@
+-- orders / ordered_product 월별 파티션 전환 (MariaDB 10.6 이상, 한 번만 실행)
+-- 파티션 테이블 제약
+--   - 외래 키를 가질 수 없고 다른 테이블이 참조할 수도 없음 (엔티티는 ConstraintMode.NO_CONSTRAINT)
+--   - PK 와 모든 unique 키에 파티션 컬럼(created_at)이 포함되어야 함 (orders_number 는 일반 인덱스로 변경)
+--     주문 번호는 OrderNumberGenerator 가 서버 번호(order.number.node-id, 필수)로 겹치지 않게 발급하므로 서버마다 다른 값으로 설정
+-- 테이블 전체를 다시 쓰므로 서비스 점검 시간에 실행하고, 실행 후 order.partition.enabled=true 로 설정
+-- 이후 파티션 추가 / 오래된 파티션 보관은 OrderPartitionManager 가 처리
+
+DELIMITER //
+
+-- 1. orders / ordered_product 관련 외래 키와 orders_number unique 키 제거 (이름은 Hibernate 가 생성해서 조회 후 삭제)
+BEGIN NOT ATOMIC
+    FOR fk IN (SELECT TABLE_NAME, CONSTRAINT_NAME
+               FROM information_schema.REFERENTIAL_CONSTRAINTS
+               WHERE CONSTRAINT_SCHEMA = DATABASE()
+                 AND (TABLE_NAME IN ('orders', 'ordered_product') OR REFERENCED_TABLE_NAME = 'orders'))
+    DO
+        EXECUTE IMMEDIATE CONCAT('ALTER TABLE ', fk.TABLE_NAME, ' DROP FOREIGN KEY ', fk.CONSTRAINT_NAME);
+    END FOR;
+
+    FOR uk IN (SELECT DISTINCT INDEX_NAME
+               FROM information_schema.STATISTICS
+               WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders'
+                 AND COLUMN_NAME = 'orders_number' AND NON_UNIQUE = 0)
+    DO
+        EXECUTE IMMEDIATE CONCAT('ALTER TABLE orders DROP INDEX ', uk.INDEX_NAME);
+    END FOR;
+END //
+
+DELIMITER ;
+
+CREATE INDEX IF NOT EXISTS idx_orders_number ON orders (orders_number);
+CREATE INDEX IF NOT EXISTS idx_ordered_product_orders ON ordered_product (orders_idx);
+
+-- 2. ordered_product 에 주문 시각 복사
+ALTER TABLE ordered_product ADD COLUMN IF NOT EXISTS created_at DATETIME(6);
+UPDATE ordered_product op JOIN orders o ON o.idx = op.orders_idx
+SET op.created_at = o.created_at
+WHERE op.created_at IS NULL;
+UPDATE ordered_product SET created_at = '1970-01-01' WHERE created_at IS NULL; -- 주문이 없는 행
+UPDATE orders SET created_at = '1970-01-01' WHERE created_at IS NULL;
+
+-- 3. PK 에 created_at 포함
+ALTER TABLE orders MODIFY created_at DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (idx, created_at);
+ALTER TABLE ordered_product MODIFY created_at DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (idx, created_at);
+
+-- 4. 보관 테이블 (파티션 없음, 파티션 전환 전에 같은 구조로 생성)
+CREATE TABLE IF NOT EXISTS orders_archive LIKE orders;
+CREATE TABLE IF NOT EXISTS ordered_product_archive LIKE ordered_product;
+
+-- 5. 월별 파티션 (pYYYYMM : 해당 월까지의 주문)
+--    실행 시점 기준 지난달 ~ 2개월 뒤(order.partition.months-ahead 기본값)까지 생성, 지난달 파티션에 이전 주문 전체가 들어감
+--    p_future 는 항상 비어 있도록 OrderPartitionManager 가 다음 달 파티션을 미리 만들어 둠
+DELIMITER //
+
+BEGIN NOT ATOMIC
+    DECLARE this_month DATE DEFAULT DATE_FORMAT(CURDATE(), '%Y-%m-01');
+    DECLARE partitions TEXT DEFAULT '';
+    DECLARE i INT DEFAULT -1;
+
+    WHILE i <= 2 DO
+        SET partitions = CONCAT(partitions, 'PARTITION p', DATE_FORMAT(this_month + INTERVAL i MONTH, '%Y%m'),
+                                ' VALUES LESS THAN (''', this_month + INTERVAL (i + 1) MONTH, '''), ');
+        SET i = i + 1;
+    END WHILE;
+    SET partitions = CONCAT(partitions, 'PARTITION p_future VALUES LESS THAN (MAXVALUE)');
+
+    EXECUTE IMMEDIATE CONCAT('ALTER TABLE orders PARTITION BY RANGE COLUMNS (created_at) (', partitions, ')');
+    EXECUTE IMMEDIATE CONCAT('ALTER TABLE ordered_product PARTITION BY RANGE COLUMNS (created_at) (', partitions, ')');
+END //
+
+DELIMITER ;
@@ -0,0 +1,106 @@
+package org.example.backend.domain.board.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@JpaSliceTest(properties = {
+	"stock.mode=database"
+})
+@Import(DatabaseStockManager.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DatabaseStockManagerTest {
+	@Autowired
+	private DatabaseStockManager databaseStockManager;
+	@Autowired
+	private ProductRepository productRepository;
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@DisplayName("[해피 케이스] 같은 상품들을 서로 다른 순서로 담은 주문이 동시에 몰려도 교착 상태 없이 재고만큼만 차감된다.")
+	@Test
+	void confirmMixedOrderBaskets() throws InterruptedException {
+		// given
+		Long firstIdx = productRepository.save(createProduct("상품 1", 1000)).getIdx();
+		Long secondIdx = productRepository.save(createProduct("상품 2", 1000)).getIdx();
+
+		int basketCount = 3000;
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		ExecutorService executorService = Executors.newFixedThreadPool(16);
+		CountDownLatch latch = new CountDownLatch(basketCount);
+		AtomicInteger successCount = new AtomicInteger();
+		AtomicInteger lackStockCount = new AtomicInteger();
+		Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+
+		// when
+		for (int i = 0; i < basketCount; i++) {
+			Map<Long, Integer> basket = new LinkedHashMap<>(); // 장바구니에 담은 순서를 그대로 유지
+			if (i % 2 == 0) {
+				basket.put(firstIdx, 1);
+				basket.put(secondIdx, 1);
+			} else {
+				basket.put(secondIdx, 1);
+				basket.put(firstIdx, 1);
+			}
+
+			executorService.submit(() -> {
+				try {
+					transactionTemplate.executeWithoutResult(status -> {
+						databaseStockManager.reserve(basket);
+						databaseStockManager.confirm(basket);
+					});
+					successCount.incrementAndGet();
+				} catch (InvalidCustomException e) {
+					if (e.getStatus() == BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK) {
+						lackStockCount.incrementAndGet();
+					} else {
+						errors.add(e);
+					}
+				} catch (Throwable t) {
+					errors.add(t);
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(60, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertThat(errors).isEmpty();
+		assertThat(successCount.get()).isEqualTo(1000);
+		assertThat(lackStockCount.get()).isEqualTo(basketCount - 1000);
+		assertThat(productRepository.findById(firstIdx).orElseThrow().getStock()).isZero();
+		assertThat(productRepository.findById(secondIdx).orElseThrow().getStock()).isZero();
+	}
+
+	private Product createProduct(String name, Integer stock) {
+		return Product.builder()
+			.name(name)
+			.price(10000)
+			.stock(stock)
+			.build();
+	}
+}
@@ -0,0 +1,141 @@
+package org.example.backend.domain.board.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class LedgerStockManagerTest {
+	@Mock
+	private ProductRepository productRepository;
+	@InjectMocks
+	private LedgerStockManager ledgerStockManager;
+
+	@DisplayName("[해피 케이스] 동시에 주문이 몰려도 재고 수량만큼만 선점된다.")
+	@Test
+	void reserveConcurrently() throws InterruptedException {
+		// given
+		given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 100)));
+		int requestCount = 1000;
+		ExecutorService executorService = Executors.newFixedThreadPool(32);
+		CountDownLatch latch = new CountDownLatch(requestCount);
+		AtomicInteger successCount = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < requestCount; i++) {
+			executorService.submit(() -> {
+				try {
+					ledgerStockManager.reserve(Map.of(1L, 1));
+					successCount.incrementAndGet();
+				} catch (InvalidCustomException ignored) {
+				} finally {
+					latch.countDown();
+				}
+			});
+		}
+		latch.await(10, TimeUnit.SECONDS);
+		executorService.shutdown();
+
+		// then
+		assertThat(successCount.get()).isEqualTo(100);
+		assertThat(ledgerStockManager.getAvailable(1L)).isZero();
+	}
+
+	@DisplayName("[예외 케이스] 여러 상품 중 하나라도 재고가 부족하면 선점한 재고를 모두 되돌린다.")
+	@Test
+	void reserveWithLackStock() {
+		// given
+		given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 5)));
+		given(productRepository.findById(2L)).willReturn(Optional.of(createProduct(2L, 1)));
+
+		// when // then
+		assertThatThrownBy(() -> ledgerStockManager.reserve(Map.of(1L, 3, 2L, 2)))
+			.isInstanceOf(InvalidCustomException.class)
+			.hasMessage(BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK.getMessage());
+		assertThat(ledgerStockManager.getAvailable(1L)).isEqualTo(5);
+		assertThat(ledgerStockManager.getAvailable(2L)).isEqualTo(1);
+	}
+
+	@DisplayName("[해피 케이스] 확정된 재고만 DB에 반영하고 반환된 재고는 다시 주문할 수 있다.")
+	@Test
+	void confirmAndRelease() {
+		// given
+		given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 10)));
+		ledgerStockManager.reserve(Map.of(1L, 3));
+		ledgerStockManager.reserve(Map.of(1L, 2));
+
+		// when
+		ledgerStockManager.confirm(Map.of(1L, 3));
+		ledgerStockManager.release(Map.of(1L, 2));
+		ledgerStockManager.flush();
+		ledgerStockManager.flush();
+
+		// then
+		assertThat(ledgerStockManager.getAvailable(1L)).isEqualTo(7);
+		then(productRepository).should().decreaseStocks(Map.of(1L, 3));
+	}
+
+	@DisplayName("[예외 케이스] 선점한 트랜잭션이 롤백되면 선점한 재고를 반환한다.")
+	@Test
+	void reserveWithRollback() {
+		// given
+		given(productRepository.findById(1L)).willReturn(Optional.of(createProduct(1L, 10)));
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			ledgerStockManager.reserve(Map.of(1L, 3));
+
+			// when
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// then
+		assertThat(ledgerStockManager.getAvailable(1L)).isEqualTo(10);
+	}
+
+	@DisplayName("[예외 케이스] 존재하지 않는 상품을 선점하면 예외가 발생한다.")
+	@Test
+	void reserveWithNullProduct() {
+		// given
+		given(productRepository.findById(any(Long.class))).willReturn(Optional.empty());
+
+		// when // then
+		assertThatThrownBy(() -> ledgerStockManager.reserve(Map.of(1L, 1)))
+			.isInstanceOf(InvalidCustomException.class)
+			.hasMessage(BaseResponseStatus.ORDER_FAIL_PRODUCT_NOT_FOUND.getMessage());
+		then(productRepository).should(never()).decreaseStocks(any());
+	}
+
+	private Product createProduct(Long idx, Integer stock) {
+		return Product.builder()
+			.idx(idx)
+			.stock(stock)
+			.build();
+	}
+}
@@ -0,0 +1,122 @@
+package org.example.backend.domain.board.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.example.backend.domain.board.category.model.entity.Category;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.example.backend.global.utils.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 게시글 목록은 페이지 크기만큼의 게시글만 읽고, 쿼리 수가 게시글 / 상품 수와 상관없이 일정한지 확인
+@JpaSliceTest
+class ProductBoardRepositoryTest {
+	private static final int PRODUCT_COUNT = 3;
+
+	@Autowired
+	private ProductBoardRepository productBoardRepository;
+	@Autowired
+	private TestEntityManager testEntityManager;
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private QueryCounter queryCounter;
+	private final List<Long> openBoards = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		queryCounter = new QueryCounter(entityManagerFactory);
+		Company company = testEntityManager.persist(Company.builder().companyName("판매자").build());
+		Category category = testEntityManager.persist(Category.builder().name("의류").build());
+		for (int i = 0; i < 5; i++) {
+			openBoards.add(saveBoard("게시글 " + i, BoardStatus.OPEN, company, category));
+		}
+		saveBoard("진행 전 게시글", BoardStatus.READY, company, category);
+		testEntityManager.flush();
+		testEntityManager.clear();
+	}
+
+	@DisplayName("[해피 케이스] 상태별 목록은 최신순으로 페이지 크기만큼 상품과 함께 조회한다.")
+	@Test
+	void searchByStatus() {
+		// given
+		List<Slice<ProductBoard>> result = new ArrayList<>();
+
+		// when
+		long queries = queryCounter.count(() -> result.add(
+			productBoardRepository.searchByStatus(BoardStatus.OPEN.getStatus(), PageRequest.of(1, 2))));
+
+		// then
+		Slice<ProductBoard> slice = result.get(0);
+		assertThat(slice.getContent()).extracting(ProductBoard::getIdx)
+			.containsExactly(openBoards.get(2), openBoards.get(1));
+		assertThat(slice.getContent()).allSatisfy(board -> assertThat(board.getProducts()).hasSize(PRODUCT_COUNT));
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(queries).isEqualTo(2);
+	}
+
+	@DisplayName("[해피 케이스] 검색 목록의 전체 개수는 COUNT 쿼리로 조회한다.")
+	@Test
+	void search() {
+		// given
+		List<Page<ProductBoard>> result = new ArrayList<>();
+
+		// when
+		long queries = queryCounter.count(() -> result.add(productBoardRepository.search("게시글", PageRequest.of(0, 4))));
+
+		// then
+		Page<ProductBoard> page = result.get(0);
+		assertThat(page.getTotalElements()).isEqualTo(6);
+		assertThat(page.getContent()).hasSize(4);
+		assertThat(page.getContent()).allSatisfy(board -> assertThat(board.getProducts()).hasSize(PRODUCT_COUNT));
+		assertThat(queries).isEqualTo(3);
+	}
+
+	@DisplayName("[예외 케이스] 조회된 게시글이 없으면 게시글을 다시 조회하지 않는다.")
+	@Test
+	void searchByStatusWithoutResult() {
+		// given
+		List<Slice<ProductBoard>> result = new ArrayList<>();
+
+		// when
+		long queries = queryCounter.count(() -> result.add(
+			productBoardRepository.searchByStatus(BoardStatus.DONE.getStatus(), PageRequest.of(0, 2))));
+
+		// then
+		assertThat(result.get(0).getContent()).isEmpty();
+		assertThat(queries).isEqualTo(1);
+	}
+
+	private Long saveBoard(String title, BoardStatus status, Company company, Category category) {
+		ProductBoard board = testEntityManager.persist(ProductBoard.builder()
+			.title(title)
+			.status(status.getStatus())
+			.company(company)
+			.category(category)
+			.build());
+		for (int i = 0; i < PRODUCT_COUNT; i++) {
+			testEntityManager.persist(Product.builder()
+				.name("상품 " + i)
+				.price(10000)
+				.stock(10)
+				.productBoard(board)
+				.build());
+		}
+		return board.getIdx();
+	}
+}
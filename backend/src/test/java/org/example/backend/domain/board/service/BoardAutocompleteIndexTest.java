@@ -0,0 +1,159 @@
+package org.example.backend.domain.board.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardAutocompleteIndexTest {
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	@Mock
+	private ProductBoardRepository productBoardRepository;
+
+	private BoardAutocompleteIndex boardAutocompleteIndex;
+	private BoardSearchDocumentLoader boardSearchDocumentLoader;
+
+	@BeforeEach
+	void setUp() {
+		boardAutocompleteIndex = new BoardAutocompleteIndex(200, 3600000L);
+		boardSearchDocumentLoader = new BoardSearchDocumentLoader(productBoardRepository, List.of(boardAutocompleteIndex), 100);
+	}
+
+	@DisplayName("[해피 케이스] 제목의 각 단어와 판매자 이름이 검색어로 시작하면 추천한다.")
+	@Test
+	void suggestByPrefix() {
+		// given
+		givenDocuments(
+			createDocument(1L, "여름 원피스", "옷가게"),
+			createDocument(2L, "반팔 티셔츠", "원피스상회")
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when
+		List<ProductBoardDto.AutocompleteResponse> result = boardAutocompleteIndex.suggest("원피", 10);
+
+		// then
+		assertThat(result).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactlyInAnyOrder("여름 원피스", "원피스상회");
+		assertThat(result).filteredOn(response -> response.getText().equals("원피스상회"))
+			.singleElement()
+			.satisfies(response -> assertThat(response.getIdx()).isNull());
+	}
+
+	@DisplayName("[해피 케이스] 초성과 초성이 섞인 검색어로도 추천한다.")
+	@Test
+	void suggestByChoseong() {
+		// given
+		givenDocuments(
+			createDocument(1L, "여름 원피스", "옷가게"),
+			createDocument(2L, "반팔 티셔츠", "옷가게")
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when & then
+		assertThat(boardAutocompleteIndex.suggest("ㅇㅍㅅ", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactly("여름 원피스");
+		assertThat(boardAutocompleteIndex.suggest("반ㅍ", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactly("반팔 티셔츠");
+		assertThat(boardAutocompleteIndex.suggest("ㅇㄱ", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactly("옷가게");
+	}
+
+	@DisplayName("[해피 케이스] 세 글자 이상 검색어는 한 글자 오타까지 추천하고, 정확히 일치하는 추천어를 먼저 보여준다.")
+	@Test
+	void suggestWithTypo() {
+		// given
+		givenDocuments(
+			createDocument(1L, "원피소 세트", "옷가게"),
+			createDocument(2L, "여름 원피스", "옷가게")
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when & then
+		assertThat(boardAutocompleteIndex.suggest("원피스", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactly("여름 원피스", "원피소 세트");
+		assertThat(boardAutocompleteIndex.suggest("원피쓰", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactlyInAnyOrder("여름 원피스", "원피소 세트");
+		assertThat(boardAutocompleteIndex.suggest("원피", 10)).extracting(ProductBoardDto.AutocompleteResponse::getText)
+			.containsExactlyInAnyOrder("여름 원피스", "원피소 세트");
+	}
+
+	@DisplayName("[해피 케이스] 최근에 많이 조회된 게시글을 먼저 추천한다.")
+	@Test
+	void suggestByPopularity() {
+		// given
+		givenDocuments(
+			createDocument(1L, "원피스 A", "옷가게"),
+			createDocument(2L, "원피스 B", "옷가게")
+		);
+		boardSearchDocumentLoader.rebuild();
+		boardAutocompleteIndex.recordView(2L);
+		boardAutocompleteIndex.recordView(2L);
+		boardAutocompleteIndex.recordView(1L);
+
+		// when
+		List<ProductBoardDto.AutocompleteResponse> result = boardAutocompleteIndex.suggest("원피스", 1);
+
+		// then
+		assertThat(result).extracting(ProductBoardDto.AutocompleteResponse::getIdx).containsExactly(2L);
+	}
+
+	@DisplayName("[해피 케이스] 새로 등록된 게시글은 다음 갱신 전에 바로 추천한다.")
+	@Test
+	void suggestRegisteredBoard() {
+		// given
+		givenDocuments();
+		boardSearchDocumentLoader.rebuild();
+		given(productBoardRepository.findSearchDocumentsByIdxIn(List.of(5L)))
+			.willReturn(List.of(createDocument(5L, "가을 원피스", "옷가게")));
+
+		// when
+		boardSearchDocumentLoader.onBoardStatusChanged(new BoardStatusChangedEvent(List.of(5L), BoardStatus.READY));
+
+		// then
+		assertThat(boardAutocompleteIndex.suggest("가을", 10)).extracting(ProductBoardDto.AutocompleteResponse::getIdx)
+			.containsExactly(5L);
+	}
+
+	@DisplayName("[예외 케이스] 색인을 만들기 전이나 검색어가 비어 있으면 추천하지 않는다.")
+	@Test
+	void suggestBeforeRebuild() {
+		// when & then
+		assertThat(boardAutocompleteIndex.suggest("원피스", 10)).isEmpty();
+		givenDocuments(createDocument(1L, "여름 원피스", "옷가게"));
+		boardSearchDocumentLoader.rebuild();
+		assertThat(boardAutocompleteIndex.suggest(" ", 10)).isEmpty();
+	}
+
+	private void givenDocuments(ProductBoardDto.SearchDocument... documents) {
+		given(productBoardRepository.findSearchDocuments(eq(0L), any(LocalDateTime.class), eq(100)))
+			.willReturn(List.of(documents));
+	}
+
+	private ProductBoardDto.SearchDocument createDocument(Long idx, String title, String companyName) {
+		return ProductBoardDto.SearchDocument.builder()
+			.idx(idx)
+			.title(title)
+			.companyName(companyName)
+			.category("의류")
+			.startedAt(NOW.minusDays(1))
+			.endedAt(NOW.plusDays(2))
+			.build();
+	}
+}
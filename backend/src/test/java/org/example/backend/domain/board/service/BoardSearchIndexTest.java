@@ -0,0 +1,131 @@
+package org.example.backend.domain.board.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class BoardSearchIndexTest {
+	private static final LocalDateTime NOW = LocalDateTime.now();
+
+	@Mock
+	private ProductBoardRepository productBoardRepository;
+
+	private BoardSearchIndex boardSearchIndex;
+	private BoardSearchDocumentLoader boardSearchDocumentLoader;
+
+	@BeforeEach
+	void setUp() {
+		boardSearchIndex = new BoardSearchIndex(1000);
+		boardSearchDocumentLoader = new BoardSearchDocumentLoader(productBoardRepository, List.of(boardSearchIndex), 100);
+	}
+
+	@DisplayName("[해피 케이스] 제목 / 판매자 이름 / 카테고리에 검색어가 포함된 게시글을 점수 순서로 찾는다.")
+	@Test
+	void search() {
+		// given
+		givenDocuments(
+			createDocument(1L, "여름 원피스", "옷가게", "의류", true),
+			createDocument(2L, "원피스 세트", "옷가게", "의류", true),
+			createDocument(3L, "반팔 티셔츠", "원피스상회", "의류", true),
+			createDocument(4L, "원 피스 퍼즐", "장난감", "라이프", true)
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when
+		Optional<List<Long>> result = boardSearchIndex.search("원피스", NOW);
+
+		// then
+		assertThat(result).contains(List.of(2L, 1L, 3L));
+	}
+
+	@DisplayName("[해피 케이스] 한 글자 검색어와 영문 대소문자가 다른 검색어도 찾는다.")
+	@Test
+	void searchWithSingleCharacterAndCase() {
+		// given
+		givenDocuments(
+			createDocument(1L, "Summer 원피스", "옷가게", "의류", true),
+			createDocument(2L, "반팔 티셔츠", "옷가게", "의류", true)
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when & then
+		assertThat(boardSearchIndex.search("피", NOW)).contains(List.of(1L));
+		assertThat(boardSearchIndex.search("SUMMER", NOW)).contains(List.of(1L));
+	}
+
+	@DisplayName("[해피 케이스] 카테고리 이름으로 검색하면 진행 중인 게시글만 찾는다.")
+	@Test
+	void searchByCategory() {
+		// given
+		givenDocuments(
+			createDocument(1L, "여름 원피스", "옷가게", "의류", true),
+			createDocument(2L, "겨울 코트", "옷가게", "의류", false)
+		);
+		boardSearchDocumentLoader.rebuild();
+
+		// when
+		Optional<List<Long>> result = boardSearchIndex.search("의류", NOW);
+
+		// then
+		assertThat(result).contains(List.of(1L));
+	}
+
+	@DisplayName("[해피 케이스] 새로 등록된 게시글은 다음 갱신 전에 바로 검색된다.")
+	@Test
+	void searchRegisteredBoard() {
+		// given
+		givenDocuments();
+		boardSearchDocumentLoader.rebuild();
+		given(productBoardRepository.findSearchDocumentsByIdxIn(List.of(5L)))
+			.willReturn(List.of(createDocument(5L, "가을 원피스", "옷가게", "의류", false)));
+
+		// when
+		boardSearchDocumentLoader.onBoardStatusChanged(new BoardStatusChangedEvent(List.of(5L), BoardStatus.READY));
+
+		// then
+		assertThat(boardSearchIndex.search("원피스", NOW)).contains(List.of(5L));
+	}
+
+	@DisplayName("[예외 케이스] 색인을 만들기 전에는 검색 결과 대신 빈 값을 반환한다.")
+	@Test
+	void searchBeforeRebuild() {
+		// when
+		Optional<List<Long>> result = boardSearchIndex.search("원피스", NOW);
+
+		// then
+		assertThat(result).isEmpty();
+	}
+
+	private void givenDocuments(ProductBoardDto.SearchDocument... documents) {
+		given(productBoardRepository.findSearchDocuments(eq(0L), any(LocalDateTime.class), eq(100)))
+			.willReturn(List.of(documents));
+	}
+
+	private ProductBoardDto.SearchDocument createDocument(Long idx, String title, String companyName, String category, boolean open) {
+		return ProductBoardDto.SearchDocument.builder()
+			.idx(idx)
+			.title(title)
+			.companyName(companyName)
+			.category(category)
+			.startedAt(open ? NOW.minusDays(1) : NOW.plusDays(1))
+			.endedAt(NOW.plusDays(2))
+			.build();
+	}
+}
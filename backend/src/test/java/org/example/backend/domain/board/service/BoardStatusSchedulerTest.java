@@ -0,0 +1,94 @@
+package org.example.backend.domain.board.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.model.event.BoardStatusChangedEvent;
+import org.example.backend.domain.board.repository.ProductBoardRepository;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@JpaSliceTest
+@Import(BoardStatusScheduler.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@RecordApplicationEvents
+class BoardStatusSchedulerTest {
+	@Autowired
+	private BoardStatusScheduler boardStatusScheduler;
+	@Autowired
+	private ProductBoardRepository productBoardRepository;
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	@AfterEach
+	void tearDown() {
+		productBoardRepository.deleteAllInBatch();
+	}
+
+	@DisplayName("[해피 케이스] 시작 / 종료 시간이 지난 게시글의 상태를 바꾸고 상태 변경 이벤트를 발행한다.")
+	@Test
+	void transition() {
+		// given
+		LocalDateTime now = LocalDateTime.of(2026, 10, 17, 12, 0);
+		Long started = saveBoard(BoardStatus.READY, now.minusMinutes(1), now.plusDays(1));
+		Long missed = saveBoard(BoardStatus.READY, now.minusDays(2), now.minusDays(1));
+		Long ended = saveBoard(BoardStatus.OPEN, now.minusDays(1), now);
+		Long upcoming = saveBoard(BoardStatus.READY, now.plusSeconds(1), now.plusDays(1));
+
+		// when
+		boardStatusScheduler.transition(now);
+
+		// then
+		assertThat(statusOf(started)).isEqualTo(BoardStatus.OPEN.getStatus());
+		assertThat(statusOf(missed)).isEqualTo(BoardStatus.DONE.getStatus());
+		assertThat(statusOf(ended)).isEqualTo(BoardStatus.DONE.getStatus());
+		assertThat(statusOf(upcoming)).isEqualTo(BoardStatus.READY.getStatus());
+		assertThat(applicationEvents.stream(BoardStatusChangedEvent.class))
+			.extracting(BoardStatusChangedEvent::status, event -> event.boardIdxList().stream().sorted().toList())
+			.containsExactly(
+				tuple(BoardStatus.DONE, List.of(missed, ended)),
+				tuple(BoardStatus.OPEN, List.of(started))
+			);
+	}
+
+	@DisplayName("[예외 케이스] 이미 상태가 바뀐 게시글은 다시 변경하거나 이벤트를 발행하지 않는다.")
+	@Test
+	void transitionTwice() {
+		// given
+		LocalDateTime now = LocalDateTime.of(2026, 10, 17, 12, 0);
+		saveBoard(BoardStatus.READY, now.minusMinutes(1), now.plusDays(1));
+		boardStatusScheduler.transition(now);
+		applicationEvents.clear();
+
+		// when
+		boardStatusScheduler.transition(now.plusSeconds(1));
+
+		// then
+		assertThat(applicationEvents.stream(BoardStatusChangedEvent.class)).isEmpty();
+	}
+
+	private Long saveBoard(BoardStatus status, LocalDateTime startedAt, LocalDateTime endedAt) {
+		return productBoardRepository.save(ProductBoard.builder()
+			.title("게시글")
+			.status(status.getStatus())
+			.startedAt(startedAt)
+			.endedAt(endedAt)
+			.build()).getIdx();
+	}
+
+	private String statusOf(Long idx) {
+		return productBoardRepository.findById(idx).orElseThrow().getStatus();
+	}
+}
@@ -0,0 +1,110 @@
+package org.example.backend.domain.board.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.example.backend.domain.board.model.dto.ProductBoardDto;
+import org.example.backend.domain.likes.repository.LikesRepository;
+import org.example.backend.global.common.constants.BaseResponse;
+import org.example.backend.global.common.constants.BoardStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+class MainListSnapshotServiceTest {
+	private static final String STATUS = BoardStatus.OPEN.getStatus();
+	private static final Pageable PAGEABLE = PageRequest.of(0, 8);
+
+	@Mock
+	private ProductBoardService productBoardService;
+	@Mock
+	private LikesRepository likesRepository;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+	private MainListSnapshotService mainListSnapshotService;
+
+	@BeforeEach
+	void setUp() {
+		mainListSnapshotService = new MainListSnapshotService(productBoardService, likesRepository, objectMapper,
+			mock(PlatformTransactionManager.class), 5);
+	}
+
+	@DisplayName("[해피 케이스] 비로그인 사용자에게는 만들어 둔 목록 응답을 다시 조회하지 않고 그대로 응답한다.")
+	@Test
+	void renderForAnonymous() throws Exception {
+		// given
+		SliceImpl<ProductBoardDto.BoardListResponse> responses = createResponses(1L, 2L);
+		given(productBoardService.mainList(STATUS, PAGEABLE)).willReturn(responses);
+
+		// when
+		byte[] first = mainListSnapshotService.render(null, STATUS, PAGEABLE);
+		byte[] second = mainListSnapshotService.render(null, STATUS, PAGEABLE);
+
+		// then
+		assertThat(first).isEqualTo(objectMapper.writeValueAsBytes(new BaseResponse<>(responses)));
+		assertThat(second).isEqualTo(first);
+		then(productBoardService).should(times(1)).mainList(STATUS, PAGEABLE);
+	}
+
+	@DisplayName("[해피 케이스] 로그인 사용자에게는 좋아요한 게시글의 likes 만 바꿔서 응답한다.")
+	@Test
+	void renderWithLikes() throws Exception {
+		// given
+		given(productBoardService.mainList(STATUS, PAGEABLE)).willReturn(createResponses(1L, 2L));
+		given(likesRepository.findLikedProductBoardIdx(10L, List.of(1L, 2L))).willReturn(List.of(2L));
+
+		// when
+		byte[] json = mainListSnapshotService.render(10L, STATUS, PAGEABLE);
+
+		// then
+		JsonNode content = objectMapper.readTree(json).get("result").get("content");
+		assertThat(content.get(0).get("likes").asBoolean()).isFalse();
+		assertThat(content.get(1).get("likes").asBoolean()).isTrue();
+		assertThat(content.get(1).get("title").asText()).isEqualTo("\"likes\":false 2");
+	}
+
+	@DisplayName("[예외 케이스] 스냅샷 페이지 수를 넘는 페이지는 스냅샷을 만들지 않는다.")
+	@Test
+	void renderBeyondMaxPages() {
+		// when
+		byte[] json = mainListSnapshotService.render(null, STATUS, PageRequest.of(5, 8));
+
+		// then
+		assertThat(json).isNull();
+	}
+
+	private SliceImpl<ProductBoardDto.BoardListResponse> createResponses(Long... idxList) {
+		List<ProductBoardDto.BoardListResponse> content = Arrays.stream(idxList)
+			.map(idx -> ProductBoardDto.BoardListResponse.builder()
+				.idx(idx)
+				.title("\"likes\":false " + idx)
+				.startedAt(LocalDateTime.of(2026, 10, 17, 12, 0))
+				.endedAt(LocalDateTime.of(2026, 10, 18, 12, 0))
+				.likes(false)
+				.build())
+			.toList();
+		return new SliceImpl<>(content, PAGEABLE, false);
+	}
+}
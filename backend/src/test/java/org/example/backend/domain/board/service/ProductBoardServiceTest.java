@@ -37,6 +37,10 @@ class ProductBoardServiceTest {
 	@Mock
 	private ProductBoardQueueService productBoardQueueService;
 	@Mock
+	private BoardStatusScheduler boardStatusScheduler;
+	@Mock
+	private BoardSearchIndex boardSearchIndex;
+	@Mock
 	private ProductBoardRepository productBoardRepository;
 	@Mock
 	private CategoryRepository categoryRepository;
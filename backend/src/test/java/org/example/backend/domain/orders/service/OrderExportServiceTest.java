@@ -0,0 +1,149 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.common.constants.PaymentType;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@JpaSliceTest(properties = {
+        "order.export.fetch-size=1"
+})
+@Import(OrderExportService.class)
+class OrderExportServiceTest {
+    @Autowired
+    private OrderExportService orderExportService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Company company;
+    private Company otherCompany;
+    private ProductBoard board;
+    private ProductBoard otherBoard;
+
+    @BeforeEach
+    void setUp() {
+        company = testEntityManager.persist(Company.builder().name("판매자").build());
+        otherCompany = testEntityManager.persist(Company.builder().name("다른 판매자").build());
+        User user = testEntityManager.persist(User.builder().name("구매자").point(0L).build());
+
+        board = persistBoard(company, "게시글");
+        otherBoard = persistBoard(otherCompany, "다른 게시글");
+        persistOrder(board, user, "ORDER1", "서울시, 강남구");
+        persistOrder(board, user, "ORDER2", "서울시 \"중구\"");
+        persistOrder(otherBoard, user, "ORDER3", "부산시");
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @DisplayName("[해피 케이스] 판매자 게시글의 주문 상품을 한 줄씩 CSV 로 내보낸다.")
+    @Test
+    void export() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        long rows = orderExportService.export(company.getIdx(), null, null, null, outputStream);
+
+        // then
+        List<String> lines = outputStream.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(rows).isEqualTo(4);
+        assertThat(lines).hasSize(5);
+        assertThat(lines.get(0)).startsWith("\uFEFF주문번호,");
+        assertThat(lines.get(1)).startsWith("ORDER1,").contains("주문 완료").contains("\"서울시, 강남구\"");
+        assertThat(lines.get(3)).startsWith("ORDER2,").contains("\"서울시 \"\"중구\"\"\"");
+        assertThat(lines).noneMatch(line -> line.startsWith("ORDER3"));
+    }
+
+    @DisplayName("[해피 케이스] 기간 밖의 주문은 내보내지 않는다.")
+    @Test
+    void exportByPeriod() {
+        // given
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+        // when
+        long rows = orderExportService.export(company.getIdx(), board.getIdx(), tomorrow, tomorrow, outputStream);
+
+        // then
+        assertThat(rows).isZero();
+    }
+
+    @DisplayName("[예외 케이스] 다른 판매자의 게시글은 내보낼 수 없다.")
+    @Test
+    void validateOtherCompanyBoard() {
+        assertThatThrownBy(() -> orderExportService.validate(company, otherBoard.getIdx(), null, null))
+                .isInstanceOf(InvalidCustomException.class)
+                .extracting("status")
+                .isEqualTo(BaseResponseStatus.ORDER_FAIL_EVENT_NOT_FOUND);
+    }
+
+    @DisplayName("[예외 케이스] 시작일이 종료일보다 늦으면 내보낼 수 없다.")
+    @Test
+    void validatePeriod() {
+        assertThatThrownBy(() -> orderExportService.validate(company, null, LocalDate.now(), LocalDate.now().minusDays(1)))
+                .isInstanceOf(InvalidCustomException.class)
+                .extracting("status")
+                .isEqualTo(BaseResponseStatus.ORDER_FAIL_EXPORT_PERIOD);
+    }
+
+    @DisplayName("[해피 케이스] 수식으로 해석될 수 있는 값은 앞에 ' 를 붙인다.")
+    @Test
+    void escapeFormula() {
+        assertThat(OrderExportService.escape("=SUM(A1)")).isEqualTo("'=SUM(A1)");
+        assertThat(OrderExportService.escape("-1000")).isEqualTo("-1000");
+    }
+
+    private ProductBoard persistBoard(Company owner, String title) {
+        return testEntityManager.persist(ProductBoard.builder()
+                .title(title)
+                .company(owner)
+                .discountRate(0)
+                .build());
+    }
+
+    private void persistOrder(ProductBoard productBoard, User user, String ordersNumber, String address) {
+        Orders order = testEntityManager.persist(Orders.builder()
+                .boardIdx(productBoard.getIdx())
+                .user(user)
+                .ordersNumber(ordersNumber)
+                .status(OrderStatus.ORDER_COMPLETE)
+                .payMethod(PaymentType.KAKAO_PAY)
+                .totalPaidAmount(20000L)
+                .receiverName("구매자")
+                .address(address)
+                .build());
+        for (int i = 0; i < 2; i++) {
+            Product product = testEntityManager.persist(Product.builder()
+                    .name("상품 " + i)
+                    .price(10000)
+                    .stock(10)
+                    .productBoard(productBoard)
+                    .build());
+            testEntityManager.persist(OrderedProduct.builder()
+                    .orders(order)
+                    .productIdx(product.getIdx())
+                    .quantity(1)
+                    .build());
+        }
+    }
+}
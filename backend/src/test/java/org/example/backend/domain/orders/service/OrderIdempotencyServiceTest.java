@@ -0,0 +1,148 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.example.backend.domain.orders.model.dto.OrderDto.OrderStatusResponse;
+import org.example.backend.domain.orders.repository.OrderIdempotencyKeyRepository;
+import org.example.backend.domain.orders.service.OrderIdempotencyService.Ticket;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@JpaSliceTest
+@Import(OrderIdempotencyService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderIdempotencyServiceTest {
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+    @Autowired
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+
+    @AfterEach
+    void tearDown() {
+        orderIdempotencyKeyRepository.deleteAll();
+    }
+
+    @DisplayName("[해피 케이스] 처리가 끝난 결제 완료 요청을 다시 보내면 처리하지 않고 처음 결과로 응답한다.")
+    @Test
+    void replayCompleted() {
+        // given
+        Ticket first = orderIdempotencyService.begin(1L, 10L, "imp_replay");
+        first.complete(OrderStatus.ORDER_COMPLETE);
+
+        // when
+        Ticket retry = orderIdempotencyService.begin(1L, 10L, "imp_replay");
+
+        // then
+        assertThat(first.isOwner()).isTrue();
+        assertThat(retry.isOwner()).isFalse();
+        assertThat(retry.await(WAIT).getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE.getStatus());
+    }
+
+    @DisplayName("[해피 케이스] 서버가 재시작되어 메모리에 결과가 없어도 DB 에 저장된 결과로 응답한다.")
+    @Test
+    void replayFromDatabase() {
+        // given
+        orderIdempotencyService.begin(1L, 10L, "imp_restart").complete(OrderStatus.ORDER_COMPLETE);
+        OrderIdempotencyService restarted = new OrderIdempotencyService(orderIdempotencyKeyRepository, 10);
+
+        // when
+        Ticket retry = restarted.begin(1L, 10L, "imp_restart");
+
+        // then
+        assertThat(retry.isOwner()).isFalse();
+        assertThat(retry.await(WAIT).getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE.getStatus());
+    }
+
+    @DisplayName("[해피 케이스] 처리 중에 들어온 중복 요청은 처음 요청이 끝날 때까지 기다렸다가 같은 결과로 응답한다.")
+    @Test
+    void waitInFlight() throws Exception {
+        // given
+        Ticket first = orderIdempotencyService.begin(1L, 10L, "imp_in_flight");
+        Ticket duplicate = orderIdempotencyService.begin(1L, 10L, "imp_in_flight");
+        CompletableFuture<OrderStatusResponse> waiting = CompletableFuture.supplyAsync(() -> duplicate.await(WAIT));
+
+        // when
+        first.complete(OrderStatus.ORDER_COMPLETE);
+
+        // then
+        assertThat(duplicate.isOwner()).isFalse();
+        assertThat(waiting.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE.getStatus());
+    }
+
+    @DisplayName("[해피 케이스] 서버가 재시작되어 처리 중으로 남은 요청도 다시 확인한 결과로 응답한다.")
+    @Test
+    void resolveProcessing() {
+        // given
+        orderIdempotencyService.begin(1L, 10L, "imp_resolve");
+        OrderIdempotencyService restarted = new OrderIdempotencyService(orderIdempotencyKeyRepository, 10);
+        restarted.resolve(1L, 10L, "imp_resolve", OrderStatus.ORDER_COMPLETE, null);
+
+        // when
+        Ticket retry = new OrderIdempotencyService(orderIdempotencyKeyRepository, 10).begin(1L, 10L, "imp_resolve");
+
+        // then
+        assertThat(retry.isOwner()).isFalse();
+        assertThat(retry.await(WAIT).getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE.getStatus());
+    }
+
+    @DisplayName("[예외 케이스] 실패한 결제 완료 요청을 다시 보내면 같은 오류로 응답한다.")
+    @Test
+    void replayFailed() {
+        // given
+        orderIdempotencyService.begin(1L, 10L, "imp_failed")
+                .fail(new InvalidCustomException(BaseResponseStatus.ORDER_VALIDATION_FAIL_PRICE_MISMATCH));
+
+        // when
+        Ticket retry = orderIdempotencyService.begin(1L, 10L, "imp_failed");
+
+        // then
+        assertThatThrownBy(() -> retry.await(WAIT))
+                .isInstanceOf(InvalidCustomException.class)
+                .extracting("status")
+                .isEqualTo(BaseResponseStatus.ORDER_VALIDATION_FAIL_PRICE_MISMATCH);
+    }
+
+    @DisplayName("[예외 케이스] 같은 결제 번호로 다른 주문을 완료할 수 없다.")
+    @Test
+    void duplicatePaymentForOtherOrder() {
+        // given
+        orderIdempotencyService.begin(1L, 10L, "imp_other").complete(OrderStatus.ORDER_COMPLETE);
+
+        // when
+        Ticket other = orderIdempotencyService.begin(1L, 11L, "imp_other");
+
+        // then
+        assertThatThrownBy(() -> other.await(WAIT))
+                .isInstanceOf(InvalidCustomException.class)
+                .extracting("status")
+                .isEqualTo(BaseResponseStatus.ORDER_FAIL_DUPLICATE_PAYMENT);
+    }
+
+    @DisplayName("[예외 케이스] 예상하지 못한 오류로 중단된 요청은 다시 처리할 수 있다.")
+    @Test
+    void retryAborted() {
+        // given
+        orderIdempotencyService.begin(1L, 10L, "imp_aborted").abort(new IllegalStateException());
+
+        // when
+        Ticket retry = orderIdempotencyService.begin(1L, 10L, "imp_aborted");
+
+        // then
+        assertThat(retry.isOwner()).isTrue();
+    }
+}
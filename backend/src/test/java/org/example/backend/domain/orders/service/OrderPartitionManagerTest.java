@@ -0,0 +1,74 @@
+package org.example.backend.domain.orders.service;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OrderPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private OrderPartitionManager orderPartitionManager;
+
+    @BeforeEach
+    void setUp() {
+        orderPartitionManager = new OrderPartitionManager(jdbcTemplate, 1, 12);
+    }
+
+    @DisplayName("[해피 케이스] 없는 다음 달 파티션을 만들고 보관 기간이 지난 파티션은 보관 테이블로 옮긴다.")
+    @Test
+    void maintain() {
+        // given
+        givenPartitions("p202509", "p202510", "p202610", "p_future");
+        given(jdbcTemplate.queryForList(contains("information_schema.COLUMNS"), eq(String.class), anyString(), anyString()))
+                .willReturn(List.of("idx", "created_at"));
+        given(jdbcTemplate.update(anyString())).willReturn(3);
+
+        // when
+        orderPartitionManager.maintain(YearMonth.of(2026, 10));
+
+        // then
+        for (String table : OrderPartitionManager.TABLES) {
+            then(jdbcTemplate).should().execute("ALTER TABLE " + table + " REORGANIZE PARTITION p_future INTO ("
+                    + "PARTITION p202611 VALUES LESS THAN ('2026-12-01'), PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+            then(jdbcTemplate).should().update("INSERT IGNORE INTO " + table + "_archive (idx, created_at) "
+                    + "SELECT idx, created_at FROM " + table + " PARTITION (p202509)");
+            then(jdbcTemplate).should().execute("ALTER TABLE " + table + " DROP PARTITION p202509");
+            then(jdbcTemplate).should(never()).execute("ALTER TABLE " + table + " DROP PARTITION p202510");
+        }
+    }
+
+    @DisplayName("[예외 케이스] 파티션을 나누지 않은 테이블은 변경하지 않는다.")
+    @Test
+    void maintainWithoutPartition() {
+        // given
+        givenPartitions();
+
+        // when
+        orderPartitionManager.maintain(YearMonth.of(2026, 10));
+
+        // then
+        then(jdbcTemplate).should(never()).execute(anyString());
+        then(jdbcTemplate).should(never()).update(anyString());
+    }
+
+    private void givenPartitions(String... partitions) {
+        given(jdbcTemplate.queryForList(contains("information_schema.PARTITIONS"), eq(String.class), anyString()))
+                .willReturn(List.of(partitions));
+    }
+}
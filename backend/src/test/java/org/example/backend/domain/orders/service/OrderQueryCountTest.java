@@ -0,0 +1,211 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.board.product.service.StockManager;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.domain.orders.validator.OrdersValidator;
+import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.domain.user.service.PointService;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.common.constants.PaymentType;
+import org.example.backend.global.utils.OrderNumberGenerator;
+import org.example.backend.global.utils.QueryCounter;
+import org.example.backend.domain.orders.model.dto.OrderDto.CompanyOrderListResponse;
+import org.example.backend.domain.orders.model.dto.OrderDto.UserOrderListResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+// 목록 / 상세 조회의 쿼리 수가 조회 건수와 상관없이 일정한지 확인
+@JpaSliceTest
+@Import(OrderService.class)
+class OrderQueryCountTest {
+    private static final int ORDER_COUNT = 6;
+    private static final int PRODUCT_COUNT = 5;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private OrdersRepository ordersRepository;
+
+    @MockBean
+    private PaymentService paymentService;
+    @MockBean
+    private OrderQueueService orderQueueService;
+    @MockBean
+    private StockManager stockManager;
+    @MockBean
+    private StockHoldService stockHoldService;
+    @MockBean
+    private OrderNumberGenerator orderNumberGenerator;
+    @MockBean
+    private OrdersValidator ordersValidator;
+    @MockBean
+    private SalesSummaryService salesSummaryService;
+    @MockBean
+    private PointService pointService;
+
+    private QueryCounter queryCounter;
+    private Company company;
+    private User user;
+    private Long orderIdx;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManagerFactory);
+        company = testEntityManager.persist(Company.builder().name("판매자").build());
+        user = testEntityManager.persist(User.builder().name("구매자").point(0L).build());
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            ProductBoard board = testEntityManager.persist(ProductBoard.builder()
+                    .title("게시글 " + i)
+                    .company(company)
+                    .discountRate(10)
+                    .build());
+            List<Product> products = new ArrayList<>();
+            for (int j = 0; j < PRODUCT_COUNT; j++) {
+                products.add(testEntityManager.persist(Product.builder()
+                        .name("상품 " + j)
+                        .price(10000)
+                        .stock(10)
+                        .productBoard(board)
+                        .build()));
+            }
+
+            Orders order = testEntityManager.persist(Orders.builder()
+                    .boardIdx(board.getIdx())
+                    .user(user)
+                    .ordersNumber("ORDER" + i)
+                    .status(OrderStatus.ORDER_COMPLETE)
+                    .payMethod(PaymentType.KAKAO_PAY)
+                    .totalPaidAmount(10000L)
+                    .build());
+            products.forEach(product -> testEntityManager.persist(OrderedProduct.builder()
+                    .orders(order)
+                    .productIdx(product.getIdx())
+                    .quantity(1)
+                    .build()));
+            orderIdx = order.getIdx();
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @DisplayName("[해피 케이스] 판매자 주문 내역은 게시글 idx 목록을 따로 조회하지 않고 게시글 제목과 주문자를 조인해서 한 번에 조회한다.")
+    @Test
+    void companyOrderList() {
+        long queryCount = queryCounter.count(() -> orderService.companyOrderList(company, 1, null, null));
+
+        assertThat(queryCount).isLessThanOrEqualTo(2); // 목록, 개수
+    }
+
+    @DisplayName("[해피 케이스] 판매자 주문 상세는 주문 상품 수와 상관없이 상품을 한 번에 조회한다.")
+    @Test
+    void companyOrderDetail() {
+        long queryCount = queryCounter.count(() -> orderService.companyOrderDetail(company, orderIdx));
+
+        assertThat(queryCount).isLessThanOrEqualTo(4); // 주문 + 주문 상품, 주문자, 게시글, 상품
+    }
+
+    @DisplayName("[해피 케이스] 사용자 주문 내역은 페이지의 게시글을 한 번에 조회한다.")
+    @Test
+    void userOrderList() {
+        long queryCount = queryCounter.count(() -> orderService.userOrderList(user, 1, null, null));
+
+        assertThat(queryCount).isLessThanOrEqualTo(4); // 목록, 개수, 주문자, 게시글
+    }
+
+    @DisplayName("[해피 케이스] cursor 로 조회하면 전체 개수를 세지 않고 이전 페이지 다음 주문부터 조회한다.")
+    @Test
+    void userOrderListByCursor() {
+        // given
+        List<Long> orderIdxList = new ArrayList<>();
+        Slice<UserOrderListResponse> page = orderService.userOrderListByCursor(user, Long.MAX_VALUE, null, null);
+        page.forEach(response -> orderIdxList.add(response.getOrderIdx()));
+
+        // when
+        Long cursor = orderIdxList.get(orderIdxList.size() - 1);
+        long queryCount = queryCounter.count(() -> orderService.userOrderListByCursor(user, cursor, null, null));
+        Slice<UserOrderListResponse> next = orderService.userOrderListByCursor(user, cursor, null, null);
+        next.forEach(response -> orderIdxList.add(response.getOrderIdx()));
+
+        // then
+        assertThat(page.hasNext()).isTrue();
+        assertThat(next.hasNext()).isFalse();
+        assertThat(orderIdxList).hasSize(ORDER_COUNT).doesNotHaveDuplicates()
+                .isSortedAccordingTo(Comparator.reverseOrder());
+        assertThat(queryCount).isLessThanOrEqualTo(3); // 목록, 주문자, 게시글
+    }
+
+    @DisplayName("[해피 케이스] 판매자 주문 내역도 cursor 로 조회하면 전체 개수를 세지 않는다.")
+    @Test
+    void companyOrderListByCursor() {
+        long queryCount = queryCounter.count(() -> orderService.companyOrderListByCursor(company, Long.MAX_VALUE, null, null));
+
+        assertThat(queryCount).isEqualTo(1); // 목록
+    }
+
+    @DisplayName("[예외 케이스] 판매자 주문 내역의 전체 개수는 목록과 같은 조건으로 세서 주문자가 없는 주문은 포함하지 않는다.")
+    @Test
+    void companyOrderListCountWithoutUser() {
+        // given
+        ProductBoard board = testEntityManager.persist(ProductBoard.builder()
+                .title("주문자 없는 게시글")
+                .company(company)
+                .discountRate(10)
+                .build());
+        testEntityManager.persist(Orders.builder()
+                .boardIdx(board.getIdx())
+                .ordersNumber("ORDER_NO_USER")
+                .status(OrderStatus.ORDER_COMPLETE)
+                .payMethod(PaymentType.KAKAO_PAY)
+                .totalPaidAmount(10000L)
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // when
+        Page<CompanyOrderListResponse> page = ordersRepository.companyHistoryWithPaging(company, PageRequest.of(0, ORDER_COUNT - 1), null, null);
+
+        // then
+        assertThat(page.getContent()).hasSize(ORDER_COUNT - 1);
+        assertThat(page.getTotalElements()).isEqualTo(ORDER_COUNT);
+    }
+
+    @DisplayName("[예외 케이스] 게시글이 없는 판매자는 다른 판매자의 주문을 조회하지 않는다.")
+    @Test
+    void companyOrderListWithoutBoards() {
+        // given
+        Company otherCompany = testEntityManager.persist(Company.builder().name("다른 판매자").build());
+
+        // when
+        Page<CompanyOrderListResponse> page = orderService.companyOrderList(otherCompany, 1, null, null);
+        Page<Orders> history = ordersRepository.historyWithPaging(otherCompany, PageRequest.of(0, 10), null, null);
+
+        // then
+        assertThat(page.getTotalElements()).isZero();
+        assertThat(history.getTotalElements()).isZero();
+    }
+}
@@ -8,23 +8,30 @@ import java.math.BigDecimal;
 import java.util.Optional;
 import org.example.backend.domain.board.model.entity.ProductBoard;
 import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
 import org.example.backend.domain.orders.model.dto.OrderDto;
 import org.example.backend.domain.orders.model.dto.OrderedProductDto;
 import org.example.backend.domain.orders.model.entity.Orders;
 import org.example.backend.domain.orders.repository.OrderedProductRepository;
 import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.domain.orders.service.StockHoldService.Claim;
 import org.example.backend.domain.board.repository.ProductBoardRepository;
 import org.example.backend.domain.orders.validator.OrdersValidator;
 import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.domain.user.service.PointService;
 import org.example.backend.global.common.constants.BaseResponseStatus;
 import org.example.backend.global.common.constants.OrderStatus;
 import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.utils.OrderNumberGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,7 +43,11 @@ import static org.example.backend.global.common.constants.BaseResponseStatus.ORD
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class OrderServiceTest {
@@ -65,6 +76,24 @@ class OrderServiceTest {
     @Mock
     private ProductBoardRepository productBoardRepository;
 
+    @Mock
+    private StockManager stockManager;
+
+    @Mock
+    private StockHoldService stockHoldService;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private SalesSummaryService salesSummaryService;
+
+    @Mock
+    private PointService pointService;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
 
     @DisplayName("[해피 케이스] 회원 정보와 요청 파라미터를 넘겨받아 주문을 생성한다.")
     @Test
@@ -114,14 +143,47 @@ class OrderServiceTest {
                 .build();
 
         given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
         given(paymentService.getPaymentInfo(eq(validPaymentId))).willReturn(new Payment());
         willDoNothing().given(paymentService).validatePayment(any(Payment.class), eq(order));
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_COMPLETE)).willReturn(1);
 
         // when
         orderService.complete(user, request);
 
         // then
         assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE);
+        assertThat(order.getPaymentId()).isEqualTo(validPaymentId);
+        then(ordersRepository).should().save(order);
+        then(salesSummaryService).should().recordComplete(order);
+    }
+
+
+    @DisplayName("[예외 케이스] 판매 집계 반영에 실패해도 결제된 주문은 주문 완료로 유지된다.")
+    @Test
+    void completeWithFailedSalesSummary() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).status(OrderStatus.PAYMENT_WAIT).build();
+        OrderDto.OrderCompleteRequest request = OrderDto.OrderCompleteRequest.builder()
+                .orderIdx(order.getIdx())
+                .paymentId("validPaymentId")
+                .build();
+
+        given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
+        given(paymentService.getPaymentInfo(eq("validPaymentId"))).willReturn(new Payment());
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_COMPLETE)).willReturn(1);
+        willThrow(new InvalidCustomException(BaseResponseStatus.ORDER_FAIL_EVENT_NOT_FOUND)).given(salesSummaryService).recordComplete(order);
+
+        // when
+        orderService.complete(user, request);
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE);
+        then(stockHoldService).should(never()).releaseClaimed(any(Orders.class), any(OrderStatus.class));
+        then(paymentService).should(never()).refund(any(), any());
+        then(orderQueueService).should().exitQueue(order.getBoardIdx(), user.getIdx());
     }
 
 
@@ -150,6 +212,7 @@ class OrderServiceTest {
 
 
         given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
         given(paymentService.getPaymentInfo(eq(invalidPaymentId))).willThrow(iamportException);
 
         // when
@@ -159,6 +222,129 @@ class OrderServiceTest {
 
         // then
         assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_FAIL);
+        then(stockHoldService).should().releaseClaimed(order, OrderStatus.ORDER_FAIL);
+    }
+
+    @DisplayName("[예외 케이스] 결제 확인 중 예상하지 못한 오류가 발생해도 선점 재고를 반환한다.")
+    @Test
+    void completeWithUnexpectedError() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).status(OrderStatus.PAYMENT_WAIT).build();
+        OrderDto.OrderCompleteRequest request = OrderDto.OrderCompleteRequest.builder()
+                .orderIdx(order.getIdx())
+                .paymentId("validPaymentId")
+                .build();
+
+        given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
+        given(paymentService.getPaymentInfo(eq("validPaymentId"))).willReturn(new Payment());
+        willThrow(new IllegalStateException()).given(paymentService).validatePayment(any(Payment.class), eq(order));
+
+        // when
+        assertThatThrownBy(() -> orderService.complete(user, request))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then
+        then(stockHoldService).should().releaseClaimed(order, OrderStatus.PAYMENT_EXPIRED);
+    }
+
+    @DisplayName("[예외 케이스] 결제 확인이 멈춘 것으로 보고 OrderSweeper 가 가져간 주문은 주문 완료로 바꾸지 않는다.")
+    @Test
+    void completeWithStalledOrder() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).status(OrderStatus.PAYMENT_WAIT).build();
+        OrderDto.OrderCompleteRequest request = OrderDto.OrderCompleteRequest.builder()
+                .orderIdx(order.getIdx())
+                .paymentId("validPaymentId")
+                .build();
+
+        given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
+        given(paymentService.getPaymentInfo(eq("validPaymentId"))).willReturn(new Payment());
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_COMPLETE)).willReturn(0);
+
+        // when
+        assertThatThrownBy(() -> orderService.complete(user, request))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_FAIL_NOT_PAYABLE.getMessage());
+
+        // then
+        then(salesSummaryService).should(never()).recordComplete(order);
+        then(stockHoldService).should(never()).releaseClaimed(order, OrderStatus.PAYMENT_EXPIRED);
+    }
+
+    @DisplayName("[해피 케이스] 결제 확인이 중단된 주문은 저장된 결제 정보로 다시 확인해서 주문 완료로 업데이트된다.")
+    @Test
+    void recoverPayment() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).paymentId("savedPaymentId").status(OrderStatus.PAYMENT_EXPIRED).build();
+
+        given(stockHoldService.claim(order)).willReturn(Claim.HELD);
+        given(paymentService.getPaymentInfo(eq("savedPaymentId"))).willReturn(new Payment());
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_COMPLETE)).willReturn(1);
+
+        // when
+        orderService.recoverPayment(order);
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE);
+        then(paymentService).should().validatePayment(any(Payment.class), eq(order));
+        then(ordersRepository).should(never()).save(any(Orders.class));
+    }
+
+    @DisplayName("[예외 케이스] 결제 시간이 지난 사이 재고가 팔린 주문은 결제를 취소하고 주문 실패가 된다.")
+    @Test
+    void completeWithSoldOutStock() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).status(OrderStatus.PAYMENT_EXPIRED).build();
+        OrderDto.OrderCompleteRequest request = OrderDto.OrderCompleteRequest.builder()
+                .orderIdx(order.getIdx())
+                .paymentId("validPaymentId")
+                .build();
+        Payment payment = new Payment();
+
+        given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.SOLD_OUT);
+        given(paymentService.getPaymentInfo(eq("validPaymentId"))).willReturn(payment);
+
+        // when
+        assertThatThrownBy(() -> orderService.complete(user, request))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK.getMessage());
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_FAIL);
+        then(paymentService).should().refund(payment.getImpUid(), payment);
+        then(paymentService).should(never()).validatePayment(any(Payment.class), any(Orders.class));
+    }
+
+    @DisplayName("[예외 케이스] 이미 처리됐거나 결제 확인 중인 주문은 결제 정보와 상태를 바꾸지 않는다.")
+    @Test
+    void completeWithProcessedOrder() throws IamportResponseException, IOException {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder().idx(1L).user(user).paymentId("paidPaymentId").status(OrderStatus.ORDER_COMPLETE).build();
+        OrderDto.OrderCompleteRequest request = OrderDto.OrderCompleteRequest.builder()
+                .orderIdx(order.getIdx())
+                .paymentId("anotherPaymentId")
+                .build();
+
+        given(ordersRepository.findById(any(Long.class))).willReturn(Optional.of(order));
+        given(stockHoldService.claim(order)).willReturn(Claim.REJECTED);
+
+        // when
+        assertThatThrownBy(() -> orderService.complete(user, request))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_FAIL_NOT_PAYABLE.getMessage());
+
+        // then
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETE);
+        assertThat(order.getPaymentId()).isEqualTo("paidPaymentId");
+        then(paymentService).should(never()).getPaymentInfo(any());
     }
 
 
@@ -237,6 +423,28 @@ class OrderServiceTest {
     }
 
 
+    @DisplayName("[예외 케이스] 결제 확인 중인 주문은 취소할 수 없다.")
+    @Test
+    void cancelWithVerifyingOrder() {
+        // given
+        User user = User.builder().idx(1L).build();
+        Orders order = Orders.builder()
+                .idx(1L)
+                .user(user)
+                .status(OrderStatus.PAYMENT_VERIFYING)
+                .build();
+
+        given(ordersRepository.findById(order.getIdx())).willReturn(Optional.of(order));
+
+        // when & then
+        assertThatThrownBy(() -> orderService.cancel(user, order.getIdx()))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_CANCEL_FAIL_VERIFYING.getMessage());
+        then(ordersRepository).should(never()).delete(any(Orders.class));
+        then(stockHoldService).should(never()).cancel(any(Orders.class));
+    }
+
+
     private static OrderedProductDto.Request createOrderdProductDto(long idx, int quantity) {
         return OrderedProductDto.Request.builder()
                 .idx(idx)
@@ -0,0 +1,155 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.OrderedProductRepository;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@JpaSliceTest(properties = {
+        "order.sweep.batch-size=2",
+        "order.sweep.retention=1d"
+})
+@Import(OrderSweeper.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderSweeperTest {
+    @Autowired
+    private OrderSweeper orderSweeper;
+    @Autowired
+    private OrdersRepository ordersRepository;
+    @Autowired
+    private OrderedProductRepository orderedProductRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private StockHoldService stockHoldService;
+    @MockBean
+    private OrderCompletionService orderCompletionService;
+
+    @AfterEach
+    void tearDown() {
+        orderedProductRepository.deleteAllInBatch();
+        ordersRepository.deleteAllInBatch();
+    }
+
+    @DisplayName("[해피 케이스] 보관 기간이 지난 결제 시간 만료 / 주문 실패 주문을 주문 상품과 함께 삭제한다.")
+    @Test
+    void deleteStaleOrders() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            saveOrder(OrderStatus.ORDER_FAIL, LocalDateTime.now().minusDays(2));
+        }
+        saveOrder(OrderStatus.PAYMENT_EXPIRED, LocalDateTime.now().minusDays(2));
+        Orders recentFail = saveOrder(OrderStatus.ORDER_FAIL, LocalDateTime.now());
+        Orders oldComplete = saveOrder(OrderStatus.ORDER_COMPLETE, LocalDateTime.now().minusDays(2));
+
+        // when
+        orderSweeper.sweep();
+
+        // then
+        assertThat(ordersRepository.findAll()).extracting(Orders::getIdx)
+                .containsExactlyInAnyOrder(recentFail.getIdx(), oldComplete.getIdx());
+        assertThat(orderedProductRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("[예외 케이스] 결제 정보가 있는 주문 실패 주문은 보관 기간이 지나도 삭제하지 않는다.")
+    @Test
+    void keepPaidFailedOrders() {
+        // given
+        Orders paidFail = saveOrder(OrderStatus.ORDER_FAIL, LocalDateTime.now().minusDays(2));
+        jdbcTemplate.update("UPDATE orders SET payment_id = ? WHERE idx = ?", "imp_123", paidFail.getIdx());
+
+        // when
+        orderSweeper.sweep();
+
+        // then
+        assertThat(ordersRepository.findAll()).extracting(Orders::getIdx).containsExactly(paidFail.getIdx());
+        assertThat(orderedProductRepository.count()).isEqualTo(1);
+    }
+
+    @DisplayName("[해피 케이스] 선점 시간이 한참 지난 결제 대기 주문은 만료 처리해서 선점 재고를 반환한다.")
+    @Test
+    void expireAbandonedOrders() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            saveOrder(OrderStatus.PAYMENT_WAIT, LocalDateTime.now().minusHours(1));
+        }
+        saveOrder(OrderStatus.PAYMENT_WAIT, LocalDateTime.now());
+        given(stockHoldService.expireAbandoned(any(Orders.class))).willReturn(true);
+
+        // when
+        orderSweeper.sweep();
+
+        // then
+        verify(stockHoldService, times(3)).expireAbandoned(any(Orders.class));
+    }
+
+    @DisplayName("[해피 케이스] 결제 확인이 멈춘 결제 확인 중 주문은 결제 시간 만료로 돌려서 선점 재고를 반환한다.")
+    @Test
+    void expireStalledOrders() {
+        // given
+        Orders stalled = saveOrder(OrderStatus.PAYMENT_VERIFYING, LocalDateTime.now().minusHours(1));
+        jdbcTemplate.update("UPDATE orders SET modified_at = ? WHERE idx = ?", LocalDateTime.now().minusHours(1), stalled.getIdx());
+        Orders verifying = saveOrder(OrderStatus.PAYMENT_VERIFYING, LocalDateTime.now().minusHours(1));
+        given(stockHoldService.releaseClaimed(any(Orders.class), eq(OrderStatus.PAYMENT_EXPIRED))).willReturn(true);
+
+        // when
+        orderSweeper.sweep();
+
+        // then
+        verify(stockHoldService).releaseClaimed(argThat(order -> order.getIdx().equals(stalled.getIdx())), eq(OrderStatus.PAYMENT_EXPIRED));
+        verify(stockHoldService, never()).releaseClaimed(argThat(order -> order.getIdx().equals(verifying.getIdx())), any());
+    }
+
+    @DisplayName("[해피 케이스] 결제 정보가 저장된 결제 시간 만료 주문은 결제 확인이 중단된 주문이므로 다시 확인한다.")
+    @Test
+    void recoverInterruptedOrders() {
+        // given
+        Orders interrupted = saveOrder(OrderStatus.PAYMENT_EXPIRED, LocalDateTime.now());
+        jdbcTemplate.update("UPDATE orders SET payment_id = ? WHERE idx = ?", "imp_123", interrupted.getIdx());
+        saveOrder(OrderStatus.PAYMENT_EXPIRED, LocalDateTime.now());
+        given(orderCompletionService.recover(any(Orders.class))).willReturn(true);
+
+        // when
+        orderSweeper.sweep();
+
+        // then
+        verify(orderCompletionService).recover(argThat(order -> order.getIdx().equals(interrupted.getIdx())));
+        verify(orderCompletionService, times(1)).recover(any(Orders.class));
+    }
+
+    private Orders saveOrder(OrderStatus status, LocalDateTime createdAt) {
+        Orders order = ordersRepository.save(Orders.builder()
+                .boardIdx(1L)
+                .status(status)
+                .build());
+        orderedProductRepository.save(OrderedProduct.builder()
+                .orders(order)
+                .productIdx(1L)
+                .quantity(1)
+                .build());
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE idx = ?", createdAt, order.getIdx());
+        return order;
+    }
+}
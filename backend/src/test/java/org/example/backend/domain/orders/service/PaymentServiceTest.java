@@ -0,0 +1,71 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.siot.IamportRestClient.IamportClient;
+import com.siot.IamportRestClient.exception.IamportResponseException;
+import com.siot.IamportRestClient.request.CancelData;
+import com.siot.IamportRestClient.response.Payment;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.domain.user.service.PointService;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentServiceTest {
+
+    @InjectMocks
+    private PaymentService paymentService;
+
+    @Mock
+    private IamportClient iamportClient;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private StockManager stockManager;
+
+    @Mock
+    private PointService pointService;
+
+    @DisplayName("[예외 케이스] 결제 정보의 사용 포인트가 주문의 사용 포인트와 다르면 포인트를 차감하지 않고 결제를 취소한다.")
+    @Test
+    void validatePaymentWithUsedPointMismatch() throws IamportResponseException, IOException {
+        // given
+        Orders order = Orders.builder()
+                .idx(1L)
+                .user(User.builder().idx(1L).build())
+                .usedPoint(1000L)
+                .build();
+        Payment payment = mock(Payment.class);
+        given(payment.getCustomData()).willReturn("{\"usedPoint\":0,\"discountRate\":10}");
+        given(payment.getAmount()).willReturn(BigDecimal.valueOf(50000));
+        given(payment.getImpUid()).willReturn("impUid");
+
+        // when // then
+        assertThatThrownBy(() -> paymentService.validatePayment(payment, order))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_VALIDATION_FAIL_PRICE_MISMATCH.getMessage());
+        then(pointService).should(never()).use(any(), any(), anyLong());
+        then(iamportClient).should().cancelPaymentByImpUid(any(CancelData.class));
+        then(stockManager).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.example.backend.domain.orders.model.entity.QueueExitOutbox;
+import org.example.backend.domain.orders.repository.QueueExitOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class QueueExitRelayTest {
+
+    @InjectMocks
+    private QueueExitRelay queueExitRelay;
+
+    @Mock
+    private RemoteOrderQueueService orderQueueService;
+
+    @Mock
+    private QueueExitOutboxRepository queueExitOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(queueExitRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(queueExitRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(queueExitRelay, "backoffMillis", 1000L);
+        ReflectionTestUtils.setField(queueExitRelay, "maxBackoffMillis", 60000L);
+        ReflectionTestUtils.setField(queueExitRelay, "leaseMillis", 30000L);
+    }
+
+    @DisplayName("[해피 케이스] 같은 게시글, 같은 사용자의 퇴장 요청은 한 번만 전송하고 모두 삭제한다.")
+    @Test
+    void relayWithDuplicates() {
+        // given
+        List<QueueExitOutbox> events = List.of(createEvent(1L, 1L, 0), createEvent(2L, 1L, 0), createEvent(3L, 2L, 0));
+        givenClaimed(events);
+        given(orderQueueService.sendExitQueue(any(Long.class), any(Long.class))).willReturn(true);
+
+        // when
+        queueExitRelay.relay();
+
+        // then
+        then(orderQueueService).should(times(1)).sendExitQueue(1L, 1L);
+        then(orderQueueService).should(times(1)).sendExitQueue(1L, 2L);
+        then(queueExitOutboxRepository).should().deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        then(queueExitOutboxRepository).should(never()).saveAll(any());
+    }
+
+    @DisplayName("[예외 케이스] 전송에 실패하면 시도 횟수를 늘려 다음에 다시 전송하고, 최대 횟수를 넘기면 버린다.")
+    @Test
+    void relayWithFailure() {
+        // given
+        QueueExitOutbox retry = createEvent(1L, 1L, 0);
+        QueueExitOutbox giveUp = createEvent(2L, 2L, 2);
+        givenClaimed(List.of(retry, giveUp));
+        given(orderQueueService.sendExitQueue(any(Long.class), any(Long.class))).willReturn(false);
+
+        // when
+        queueExitRelay.relay();
+
+        // then
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        then(queueExitOutboxRepository).should().deleteAllByIdInBatch(List.of(2L));
+        then(queueExitOutboxRepository).should().saveAll(List.of(retry));
+    }
+
+    @DisplayName("[예외 케이스] 다른 서버가 먼저 가져간 퇴장 요청은 전송하지 않는다.")
+    @Test
+    void relayWithClaimedByOtherNode() {
+        // given
+        given(queueExitOutboxRepository.findDueIdx(any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of(1L));
+        given(queueExitOutboxRepository.claim(eq(List.of(1L)), any(String.class), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(0);
+
+        // when
+        queueExitRelay.relay();
+
+        // then
+        then(orderQueueService).should(never()).sendExitQueue(any(Long.class), any(Long.class));
+        then(queueExitOutboxRepository).should(never()).findAllByClaimTokenOrderByIdx(any());
+    }
+
+    private void givenClaimed(List<QueueExitOutbox> events) {
+        List<Long> idxList = events.stream().map(QueueExitOutbox::getIdx).toList();
+        given(queueExitOutboxRepository.findDueIdx(any(LocalDateTime.class), any(Pageable.class))).willReturn(idxList);
+        given(queueExitOutboxRepository.claim(eq(idxList), any(String.class), any(LocalDateTime.class), any(LocalDateTime.class))).willReturn(events.size());
+        given(queueExitOutboxRepository.findAllByClaimTokenOrderByIdx(any(String.class))).willReturn(events);
+    }
+
+    private QueueExitOutbox createEvent(Long idx, Long userIdx, Integer attempts) {
+        return QueueExitOutbox.builder()
+                .idx(idx)
+                .boardIdx(1L)
+                .userIdx(userIdx)
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+}
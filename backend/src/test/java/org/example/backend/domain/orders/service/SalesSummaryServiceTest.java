@@ -0,0 +1,172 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.example.backend.domain.board.model.entity.ProductBoard;
+import org.example.backend.domain.board.product.model.entity.Product;
+import org.example.backend.domain.company.model.entity.Company;
+import org.example.backend.domain.orders.model.dto.OrderDto.BoardSalesResponse;
+import org.example.backend.domain.orders.model.dto.OrderDto.ProductSalesResponse;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.global.common.JpaSliceTest;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@JpaSliceTest(properties = {
+        "order.sales-summary.cache-ttl=1m"
+})
+@Import(SalesSummaryService.class)
+class SalesSummaryServiceTest {
+    @Autowired
+    private SalesSummaryService salesSummaryService;
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    private Company company;
+    private ProductBoard board;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        company = testEntityManager.persist(Company.builder().name("판매자").build());
+        board = testEntityManager.persist(ProductBoard.builder()
+                .title("게시글")
+                .company(company)
+                .discountRate(10)
+                .build());
+        products = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            products.add(testEntityManager.persist(Product.builder()
+                    .name("상품 " + i)
+                    .price(10000)
+                    .stock(10)
+                    .productBoard(board)
+                    .build()));
+        }
+        testEntityManager.flush();
+    }
+
+    @DisplayName("[해피 케이스] 주문 완료 시 게시글과 상품별 판매 수량, 금액, 사용 포인트를 더한다.")
+    @Test
+    void recordComplete() {
+        // given
+        Orders first = createOrder(2, 1, 1000L);
+        Orders second = createOrder(1, 0, 500L);
+
+        // when
+        salesSummaryService.recordComplete(first);
+        salesSummaryService.recordComplete(second);
+        BoardSalesResponse response = salesSummaryService.getBoardSales(company, board.getIdx());
+
+        // then
+        assertThat(response.getOrderCount()).isEqualTo(2);
+        assertThat(response.getUnits()).isEqualTo(4);
+        assertThat(response.getGrossAmount()).isEqualTo(36000);
+        assertThat(response.getUsedPoint()).isEqualTo(1500);
+        assertThat(response.getProducts()).extracting(ProductSalesResponse::getUnits).containsExactlyInAnyOrder(3L, 1L);
+    }
+
+    @DisplayName("[해피 케이스] 반영되지 않은 주문 완료는 다시 반영하고, 이미 반영된 주문은 한 번만 더한다.")
+    @Test
+    void reconcile() {
+        // given
+        Orders recorded = createOrder(1, 0, 0L);
+        Orders unrecorded = createOrder(0, 2, 0L);
+        salesSummaryService.recordComplete(recorded);
+
+        // when
+        salesSummaryService.reconcile();
+        salesSummaryService.recordComplete(recorded);
+        salesSummaryService.recordComplete(unrecorded);
+        BoardSalesResponse response = salesSummaryService.getBoardSales(company, board.getIdx());
+
+        // then
+        assertThat(response.getOrderCount()).isEqualTo(2);
+        assertThat(response.getUnits()).isEqualTo(3);
+        assertThat(unrecorded.getOrderedProducts()).extracting(OrderedProduct::getAmount).containsExactly(18000L);
+    }
+
+    @DisplayName("[해피 케이스] 주문 취소 시 집계에서 빼고, 캐시된 조회 결과도 바로 바뀐다.")
+    @Test
+    void recordCancel() {
+        // given
+        Orders order = createOrder(1, 1, 1000L);
+        salesSummaryService.recordComplete(order);
+        BoardSalesResponse before = salesSummaryService.getBoardSales(company, board.getIdx());
+
+        // when
+        salesSummaryService.recordCancel(order);
+        BoardSalesResponse after = salesSummaryService.getBoardSales(company, board.getIdx());
+
+        // then
+        assertThat(before.getOrderCount()).isEqualTo(1);
+        assertThat(after.getOrderCount()).isZero();
+        assertThat(after.getUnits()).isZero();
+        assertThat(after.getGrossAmount()).isZero();
+        assertThat(after.getUsedPoint()).isZero();
+    }
+
+    @DisplayName("[해피 케이스] 주문 완료 후 상품 가격이 바뀌어도 취소 시 주문 완료 때의 금액을 뺀다.")
+    @Test
+    void recordCancelAfterPriceChange() {
+        // given
+        Orders order = createOrder(2, 1, 0L);
+        salesSummaryService.recordComplete(order);
+        testEntityManager.getEntityManager()
+                .createQuery("UPDATE Product p SET p.price = 20000 WHERE p.productBoard.idx = :boardIdx")
+                .setParameter("boardIdx", board.getIdx())
+                .executeUpdate();
+
+        // when
+        salesSummaryService.recordCancel(order);
+        BoardSalesResponse response = salesSummaryService.getBoardSales(company, board.getIdx());
+
+        // then
+        assertThat(order.getOrderedProducts()).extracting(OrderedProduct::getAmount).containsExactly(18000L, 9000L);
+        assertThat(response.getGrossAmount()).isZero();
+        assertThat(response.getProducts()).extracting(ProductSalesResponse::getGrossAmount).containsOnly(0L);
+    }
+
+    @DisplayName("[예외 케이스] 다른 판매자의 게시글 판매 집계는 조회할 수 없다.")
+    @Test
+    void getBoardSalesWithOtherCompany() {
+        // given
+        Company otherCompany = testEntityManager.persist(Company.builder().name("다른 판매자").build());
+
+        // when & then
+        assertThatThrownBy(() -> salesSummaryService.getBoardSales(otherCompany, board.getIdx()))
+                .isInstanceOf(InvalidCustomException.class);
+    }
+
+    private Orders createOrder(int firstQuantity, int secondQuantity, Long usedPoint) {
+        List<OrderedProduct> orderedProducts = new ArrayList<>();
+        Orders order = testEntityManager.persist(Orders.builder()
+                .boardIdx(board.getIdx())
+                .status(OrderStatus.ORDER_COMPLETE)
+                .usedPoint(usedPoint)
+                .orderedProducts(orderedProducts)
+                .build());
+        int[] quantities = {firstQuantity, secondQuantity};
+        for (int i = 0; i < quantities.length; i++) {
+            if (quantities[i] > 0) {
+                orderedProducts.add(testEntityManager.persist(OrderedProduct.builder()
+                        .orders(order)
+                        .productIdx(products.get(i).getIdx())
+                        .quantity(quantities[i])
+                        .build()));
+            }
+        }
+        testEntityManager.flush();
+        return order;
+    }
+}
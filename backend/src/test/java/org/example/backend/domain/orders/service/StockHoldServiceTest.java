@@ -0,0 +1,231 @@
+package org.example.backend.domain.orders.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.example.backend.domain.board.product.service.StockManager;
+import org.example.backend.domain.orders.model.entity.OrderedProduct;
+import org.example.backend.domain.orders.model.entity.Orders;
+import org.example.backend.domain.orders.repository.OrdersRepository;
+import org.example.backend.domain.orders.service.StockHoldService.Claim;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.common.constants.OrderStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StockHoldServiceTest {
+
+    @Mock
+    private StockManager stockManager;
+
+    @Mock
+    private OrdersRepository ordersRepository;
+
+    private StockHoldService stockHoldService;
+
+    @BeforeEach
+    void setUp() {
+        stockHoldService = new StockHoldService(stockManager, ordersRepository, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockHoldService.shutdown();
+    }
+
+    @DisplayName("[해피 케이스] 선점이 유효한 주문은 결제 확인 중 상태가 된다.")
+    @Test
+    void claimWithValidHold() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_VERIFYING)).willReturn(1);
+
+        // when
+        Claim claim = stockHoldService.claim(order);
+
+        // then
+        assertThat(claim).isEqualTo(Claim.HELD);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_VERIFYING);
+    }
+
+    @DisplayName("[해피 케이스] 선점 시간이 지난 주문은 재고를 다시 선점하고 결제 확인 중 상태가 된다.")
+    @Test
+    void claimWithExpiredHold() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_VERIFYING)).willReturn(0);
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_EXPIRED, OrderStatus.PAYMENT_VERIFYING)).willReturn(1);
+
+        // when
+        Claim claim = stockHoldService.claim(order);
+
+        // then
+        assertThat(claim).isEqualTo(Claim.HELD);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_VERIFYING);
+        then(stockManager).should().reserve(Map.of(1L, 2));
+    }
+
+    @DisplayName("[예외 케이스] 선점 시간이 지난 사이 재고가 팔린 주문은 주문 실패가 된다.")
+    @Test
+    void claimWithSoldOutStock() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_VERIFYING)).willReturn(0);
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_EXPIRED, OrderStatus.PAYMENT_VERIFYING)).willReturn(1);
+        willThrow(new InvalidCustomException(BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK)).given(stockManager).reserve(Map.of(1L, 2));
+
+        // when
+        Claim claim = stockHoldService.claim(order);
+
+        // then
+        assertThat(claim).isEqualTo(Claim.SOLD_OUT);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.ORDER_FAIL);
+        then(ordersRepository).should().updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_FAIL);
+    }
+
+    @DisplayName("[예외 케이스] 이미 처리됐거나 다른 요청이 결제 확인 중인 주문은 가져가지 못한다.")
+    @Test
+    void claimWithProcessedOrder() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_VERIFYING)).willReturn(0);
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_EXPIRED, OrderStatus.PAYMENT_VERIFYING)).willReturn(0);
+
+        // when
+        Claim claim = stockHoldService.claim(order);
+
+        // then
+        assertThat(claim).isEqualTo(Claim.REJECTED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_WAIT);
+    }
+
+    @DisplayName("[해피 케이스] 주문 완료까지 가지 못한 결제 확인 중 주문의 선점 재고를 반환한다.")
+    @Test
+    void releaseClaimed() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.PAYMENT_EXPIRED)).willReturn(1);
+
+        // when
+        boolean released = stockHoldService.releaseClaimed(order, OrderStatus.PAYMENT_EXPIRED);
+
+        // then
+        assertThat(released).isTrue();
+        then(stockManager).should().release(Map.of(1L, 2));
+    }
+
+    @DisplayName("[예외 케이스] 이미 다른 쪽이 상태를 바꾼 주문은 선점 재고를 다시 반환하지 않는다.")
+    @Test
+    void releaseClaimedWithSettledOrder() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.ORDER_FAIL)).willReturn(0);
+
+        // when
+        boolean released = stockHoldService.releaseClaimed(order, OrderStatus.ORDER_FAIL);
+
+        // then
+        assertThat(released).isFalse();
+        then(stockManager).should(never()).release(any());
+    }
+
+    @DisplayName("[해피 케이스] 결제 전에 취소한 주문의 선점 재고를 반환한다.")
+    @Test
+    void cancel() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL)).willReturn(1);
+
+        // when
+        boolean canceled = stockHoldService.cancel(order);
+
+        // then
+        assertThat(canceled).isTrue();
+        then(stockManager).should().release(Map.of(1L, 2));
+    }
+
+    @DisplayName("[예외 케이스] 이미 만료된 주문을 취소하면 재고를 다시 반환하지 않는다.")
+    @Test
+    void cancelWithExpiredHold() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL)).willReturn(0);
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_EXPIRED, OrderStatus.ORDER_CANCEL)).willReturn(1);
+
+        // when
+        boolean canceled = stockHoldService.cancel(order);
+
+        // then
+        assertThat(canceled).isTrue();
+        then(stockManager).should(never()).release(any());
+    }
+
+    @DisplayName("[예외 케이스] 결제 확인이 시작된 주문은 취소하지 못한다.")
+    @Test
+    void cancelWithVerifyingOrder() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL)).willReturn(0);
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_EXPIRED, OrderStatus.ORDER_CANCEL)).willReturn(0);
+
+        // when
+        boolean canceled = stockHoldService.cancel(order);
+
+        // then
+        assertThat(canceled).isFalse();
+        then(stockManager).should(never()).release(any());
+    }
+
+    @DisplayName("[해피 케이스] 만료 처리가 누락된 결제 대기 주문을 만료시키고 선점 재고를 반환한다.")
+    @Test
+    void expireAbandoned() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.updateStatus(1L, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_EXPIRED)).willReturn(1);
+
+        // when
+        boolean expired = stockHoldService.expireAbandoned(order);
+
+        // then
+        assertThat(expired).isTrue();
+        then(stockManager).should().release(Map.of(1L, 2));
+    }
+
+    @DisplayName("[예외 케이스] 재시작 후 선점을 다시 잡지 못한 결제 확인 중 주문은 결제 시간 만료로 돌린다.")
+    @Test
+    void recoverVerifyingOrder() {
+        // given
+        Orders order = createOrder();
+        given(ordersRepository.findAllByStatusWithProducts(OrderStatus.PAYMENT_WAIT)).willReturn(List.of());
+        given(ordersRepository.findAllByStatusWithProducts(OrderStatus.PAYMENT_VERIFYING)).willReturn(List.of(order));
+        given(stockManager.recover(Map.of(1L, 2))).willReturn(false);
+
+        // when
+        stockHoldService.recover();
+
+        // then
+        then(ordersRepository).should().updateStatus(1L, OrderStatus.PAYMENT_VERIFYING, OrderStatus.PAYMENT_EXPIRED);
+    }
+
+    private Orders createOrder() {
+        return Orders.builder()
+                .idx(1L)
+                .status(OrderStatus.PAYMENT_WAIT)
+                .orderedProducts(List.of(OrderedProduct.builder().productIdx(1L).quantity(2).build()))
+                .build();
+    }
+}
@@ -1,8 +1,7 @@
 package org.example.backend.domain.orders.validator;
 
 import org.example.backend.domain.board.model.entity.ProductBoard;
-import org.example.backend.domain.board.product.model.entity.Product;
-import org.example.backend.domain.board.product.repository.ProductRepository;
+import org.example.backend.domain.board.product.service.StockManager;
 import org.example.backend.domain.board.repository.ProductBoardRepository;
 
 import org.example.backend.domain.orders.model.dto.OrderDto;
@@ -10,6 +9,7 @@ import org.example.backend.domain.orders.model.dto.OrderedProductDto;
 import org.example.backend.domain.orders.service.OrderQueueService;
 import org.example.backend.global.common.constants.BaseResponseStatus;
 import org.example.backend.global.exception.InvalidCustomException;
+import org.example.backend.global.security.jwt.AdmissionTokenUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,11 +19,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class OrdersValidatorTest {
@@ -32,7 +36,7 @@ class OrdersValidatorTest {
     private OrdersValidator ordersValidator;
 
     @Mock
-    private ProductRepository productRepository;
+    private StockManager stockManager;
 
     @Mock
     private ProductBoardRepository productBoardRepository;
@@ -40,6 +44,9 @@ class OrdersValidatorTest {
     @Mock
     private OrderQueueService orderQueueService;
 
+    @Mock
+    private AdmissionTokenUtil admissionTokenUtil;
+
     @DisplayName("[해피 케이스] 주문 생성에 대한 유효성을 검증한다")
     @Test
     void validateOrder() {
@@ -50,13 +57,35 @@ class OrdersValidatorTest {
 
         ProductBoard board = createBoard(1L,LocalDateTime.of(2024, 12, 23, 8, 30), LocalDateTime.of(2024, 12, 24, 8, 30));
         given(productBoardRepository.findById(any(Long.class))).willReturn(Optional.ofNullable(board));
-        Product product = createProduct(1L,5);
-        given(productRepository.findByIdWithLock(any(Long.class))).willReturn(Optional.ofNullable(product));
         LocalDateTime registerdTime = LocalDateTime.of(2024,12,24,6,30);
         Long userIdx = 1L;
 
-        // when // then (void 타입 -> 호출 여부 검증)
+        // when
         ordersValidator.validateOrder(order, userIdx, registerdTime);
+
+        // then
+        then(stockManager).should().reserve(Map.of(1L, 5));
+    }
+
+    @DisplayName("[예외 케이스] 대기열 입장 토큰이 유효하지 않으면 게시글을 조회하기 전에 예외가 발생한다.")
+    @Test
+    void validateOrderWithInvalidAdmission() {
+        // given
+        OrderedProductDto.Request req1 = createRequest(1L, 5);
+        List<OrderedProductDto.Request> orderedProducts = List.of(req1);
+        OrderDto.OrderRegisterRequest order = createOrderRequest(1L, orderedProducts);
+
+        LocalDateTime registerdTime = LocalDateTime.of(2024,12,24,6,30);
+        Long userIdx = 1L;
+
+        willThrow(new InvalidCustomException(BaseResponseStatus.ORDER_FAIL_INVALID_ADMISSION)).given(admissionTokenUtil).verify(any(), any(Long.class), any(Long.class));
+
+        // when // then
+        assertThatThrownBy(() -> ordersValidator.validateOrder(order, userIdx, registerdTime))
+                .isInstanceOf((InvalidCustomException.class))
+                .hasMessage(BaseResponseStatus.ORDER_FAIL_INVALID_ADMISSION.getMessage());
+        then(productBoardRepository).should(never()).findById(any(Long.class));
+        then(stockManager).should(never()).reserve(any());
     }
 
     @DisplayName("[예외 케이스] 이벤트를 찾을 수 없을 때 예외가 발생한다.")
@@ -137,7 +166,7 @@ class OrdersValidatorTest {
         Long userIdx = 1L;
 
         given(productBoardRepository.findById(any(Long.class))).willReturn(Optional.ofNullable(board));
-        given(productRepository.findByIdWithLock(any(Long.class))).willReturn(Optional.ofNullable(null));
+        willThrow(new InvalidCustomException(BaseResponseStatus.ORDER_FAIL_PRODUCT_NOT_FOUND)).given(stockManager).reserve(any());
 
         // when // then (void 타입 -> 호출 여부 검증)
         assertThatThrownBy(() -> ordersValidator.validateOrder(order, userIdx, registerdTime))
@@ -156,8 +185,7 @@ class OrdersValidatorTest {
 
         ProductBoard board = createBoard(1L, LocalDateTime.of(2024, 12, 23, 8, 30), LocalDateTime.of(2024, 12, 24, 8, 30));
         given(productBoardRepository.findById(any(Long.class))).willReturn(Optional.ofNullable(board));
-        Product product = createProduct(1L, 1);
-        given(productRepository.findByIdWithLock(any(Long.class))).willReturn(Optional.ofNullable(product));
+        willThrow(new InvalidCustomException(BaseResponseStatus.ORDER_CREATE_FAIL_LACK_STOCK)).given(stockManager).reserve(any());
         LocalDateTime registerdTime = LocalDateTime.of(2024, 12, 24, 6, 30);
         Long userIdx = 1L;
 
@@ -188,11 +216,4 @@ class OrdersValidatorTest {
                 .endedAt(endedAt)
                 .build();
     }
-
-    private Product createProduct(Long idx, Integer stock) {
-        return Product.builder()
-                .idx(idx)
-                .stock(stock)
-                .build();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package org.example.backend.domain.queue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class WaitingRoomTest {
+
+    @DisplayName("[해피 케이스] 동시에 입장해도 사용자마다 서로 다른 번호표를 한 장씩 받는다.")
+    @Test
+    void enterConcurrently() throws InterruptedException {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom(LocalDateTime.now().plusHours(1));
+        int userCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userCount * 2);
+        Set<Long> tickets = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < userCount * 2; i++) {
+            long userIdx = i % userCount; // 같은 사용자가 두 번씩 입장
+            executorService.submit(() -> {
+                try {
+                    tickets.add(waitingRoom.enter(userIdx));
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(tickets).hasSize(userCount);
+    }
+
+    @DisplayName("[해피 케이스] 입장한 순서대로 허가되고 남은 인원이 줄어든다.")
+    @Test
+    void admitInOrder() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom(LocalDateTime.now().plusHours(1));
+        waitingRoom.enter(10L);
+        waitingRoom.enter(20L);
+        waitingRoom.enter(30L);
+
+        // when
+        waitingRoom.admit(2, 0L);
+
+        // then
+        assertThat(waitingRoom.position(10L)).isZero();
+        assertThat(waitingRoom.position(20L)).isZero();
+        assertThat(waitingRoom.position(30L)).isEqualTo(1);
+        assertThat(waitingRoom.admissionExpiresAt(20L, 1000L)).isEqualTo(1000L);
+        assertThat(waitingRoom.admissionExpiresAt(30L, 1000L)).isNull();
+    }
+
+    @DisplayName("[해피 케이스] 나간 사용자의 번호표는 건너뛰고 허가하며, 뒤에 선 사용자의 남은 인원이 줄어든다.")
+    @Test
+    void admitSkippingExited() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom(LocalDateTime.now().plusHours(1));
+        waitingRoom.enter(10L);
+        waitingRoom.enter(20L);
+        waitingRoom.enter(30L);
+        waitingRoom.enter(40L);
+        waitingRoom.exit(20L);
+
+        // when
+        long positionBeforeAdmit = waitingRoom.position(40L);
+        waitingRoom.admit(2, 0L);
+
+        // then
+        assertThat(positionBeforeAdmit).isEqualTo(3);
+        assertThat(waitingRoom.position(10L)).isZero();
+        assertThat(waitingRoom.position(30L)).isZero();
+        assertThat(waitingRoom.position(40L)).isEqualTo(1);
+        assertThat(waitingRoom.position(20L)).isEqualTo(-1);
+    }
+
+    @DisplayName("[예외 케이스] 입장 허가 후 유효 시간이 지나면 대기열에서 제거된다.")
+    @Test
+    void expireAdmission() {
+        // given
+        WaitingRoom waitingRoom = new WaitingRoom(LocalDateTime.now().plusHours(1));
+        waitingRoom.enter(10L);
+        waitingRoom.enter(20L);
+        waitingRoom.admit(1, 0L);
+
+        // when
+        waitingRoom.expire(1000L, 1000L);
+
+        // then
+        assertThat(waitingRoom.contains(10L)).isFalse();
+        assertThat(waitingRoom.position(20L)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.backend.domain.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.example.backend.domain.user.model.dto.UserDto;
+import org.example.backend.domain.user.model.entity.User;
+import org.example.backend.domain.user.repository.PointHistoryRepository;
+import org.example.backend.domain.user.repository.UserRepository;
+import org.example.backend.global.common.JpaSliceTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@JpaSliceTest
+@Import(PointService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointServiceTest {
+    @Autowired
+    private PointService pointService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @DisplayName("[해피 케이스] 잔액이 충분하면 포인트를 차감하고 내역을 남긴다.")
+    @Test
+    void use() {
+        // given
+        User user = saveUser(1000L);
+
+        // when
+        boolean used = pointService.use(user.getIdx(), 1L, 300L);
+
+        // then
+        assertThat(used).isTrue();
+        assertThat(pointOf(user)).isEqualTo(700L);
+        Page<UserDto.PointHistoryResponse> history = pointService.history(user.getIdx(), 1);
+        assertThat(history.getContent()).singleElement()
+                .satisfies(response -> assertThat(response.getAmount()).isEqualTo(-300L));
+    }
+
+    @DisplayName("[예외 케이스] 잔액이 부족하면 포인트를 차감하지 않는다.")
+    @Test
+    void useWithLackOfPoint() {
+        // given
+        User user = saveUser(100L);
+
+        // when
+        boolean used = pointService.use(user.getIdx(), 1L, 300L);
+
+        // then
+        assertThat(used).isFalse();
+        assertThat(pointOf(user)).isEqualTo(100L);
+        assertThat(pointHistoryRepository.count()).isZero();
+    }
+
+    @DisplayName("[해피 케이스] 같은 주문으로 다시 사용하거나 사용 취소해도 한 번만 반영된다.")
+    @Test
+    void useAndRestoreOncePerOrder() {
+        // given
+        User user = saveUser(1000L);
+
+        // when
+        pointService.use(user.getIdx(), 1L, 300L);
+        pointService.use(user.getIdx(), 1L, 300L);
+        pointService.restore(user.getIdx(), 1L, 300L);
+        pointService.restore(user.getIdx(), 1L, 300L);
+
+        // then
+        assertThat(pointOf(user)).isEqualTo(1000L);
+        assertThat(pointHistoryRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("[해피 케이스] 동시에 포인트를 사용해도 잔액보다 많이 차감되지 않는다.")
+    @Test
+    void useConcurrently() throws InterruptedException {
+        // given
+        User user = saveUser(500L);
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long orderIdx = i + 1;
+            executorService.submit(() -> {
+                try {
+                    if (pointService.use(user.getIdx(), orderIdx, 100L)) {
+                        successCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(successCount.get()).isEqualTo(5);
+        assertThat(pointOf(user)).isZero();
+        assertThat(pointHistoryRepository.count()).isEqualTo(5);
+    }
+
+    private User saveUser(Long point) {
+        return userRepository.save(User.builder().name("구매자").point(point).build());
+    }
+
+    private Long pointOf(User user) {
+        return userRepository.findById(user.getIdx()).orElseThrow().getPoint();
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.backend.global.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Date;
+import org.example.backend.global.common.constants.BaseResponseStatus;
+import org.example.backend.global.exception.InvalidCustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdmissionTokenUtilTest {
+    private static final String SECRET = "admission-token-test-secret-key-0123456789";
+
+    private final AdmissionTokenUtil admissionTokenUtil = new AdmissionTokenUtil(SECRET, "remote", true);
+
+    @DisplayName("[해피 케이스] 같은 게시글, 같은 사용자에게 발급된 토큰은 통과한다.")
+    @Test
+    void verify() {
+        // given
+        String token = admissionTokenUtil.createToken(1L, 2L, new Date(System.currentTimeMillis() + 60000));
+
+        // when // then
+        assertThatCode(() -> admissionTokenUtil.verify(token, 1L, 2L)).doesNotThrowAnyException();
+    }
+
+    @DisplayName("[예외 케이스] 다른 게시글이나 다른 사용자의 토큰이면 예외가 발생한다.")
+    @Test
+    void verifyWithOtherBoardOrUser() {
+        // given
+        String token = admissionTokenUtil.createToken(1L, 2L, new Date(System.currentTimeMillis() + 60000));
+
+        // when // then
+        assertThatThrownBy(() -> admissionTokenUtil.verify(token, 3L, 2L))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_FAIL_INVALID_ADMISSION.getMessage());
+        assertThatThrownBy(() -> admissionTokenUtil.verify(token, 1L, 3L))
+                .isInstanceOf(InvalidCustomException.class)
+                .hasMessage(BaseResponseStatus.ORDER_FAIL_INVALID_ADMISSION.getMessage());
+    }
+
+    @DisplayName("[예외 케이스] 만료됐거나, 다른 키로 서명됐거나, 없는 토큰이면 예외가 발생한다.")
+    @Test
+    void verifyWithInvalidToken() {
+        // given
+        String expired = admissionTokenUtil.createToken(1L, 2L, new Date(System.currentTimeMillis() - 1000));
+        String forged = new AdmissionTokenUtil(SECRET + "-forged", "remote", true).createToken(1L, 2L, new Date(System.currentTimeMillis() + 60000));
+
+        // when // then
+        assertThatThrownBy(() -> admissionTokenUtil.verify(expired, 1L, 2L)).isInstanceOf(InvalidCustomException.class);
+        assertThatThrownBy(() -> admissionTokenUtil.verify(forged, 1L, 2L)).isInstanceOf(InvalidCustomException.class);
+        assertThatThrownBy(() -> admissionTokenUtil.verify(null, 1L, 2L)).isInstanceOf(InvalidCustomException.class);
+    }
+
+    @DisplayName("[해피 케이스] 검증 여부를 지정하지 않으면 서버 내 대기열 모드에서만 토큰을 검증한다.")
+    @Test
+    void verifyByQueueMode() {
+        // given
+        AdmissionTokenUtil remote = new AdmissionTokenUtil(SECRET, "remote", null);
+        AdmissionTokenUtil embedded = new AdmissionTokenUtil(SECRET, "embedded", null);
+
+        // when // then
+        assertThatCode(() -> remote.verify(null, 1L, 2L)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> embedded.verify(null, 1L, 2L)).isInstanceOf(InvalidCustomException.class);
+    }
+}
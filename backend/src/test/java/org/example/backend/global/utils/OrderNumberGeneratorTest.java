@@ -0,0 +1,69 @@
+package org.example.backend.global.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderNumberGeneratorTest {
+
+    @DisplayName("[해피 케이스] 여러 스레드, 여러 서버에서 동시에 생성해도 주문 번호가 겹치지 않는다.")
+    @Test
+    void generateConcurrently() throws InterruptedException {
+        // given
+        OrderNumberGenerator firstNode = new OrderNumberGenerator(1);
+        OrderNumberGenerator secondNode = new OrderNumberGenerator(2);
+        int threadCount = 16;
+        int countPerThread = 50000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<String> orderNumbers = ConcurrentHashMap.newKeySet();
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            OrderNumberGenerator generator = i % 2 == 0 ? firstNode : secondNode;
+            executorService.submit(() -> {
+                try {
+                    for (int j = 0; j < countPerThread; j++) {
+                        orderNumbers.add(generator.generate());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // then
+        assertThat(orderNumbers).hasSize(threadCount * countPerThread);
+    }
+
+    @DisplayName("[해피 케이스] 나중에 생성한 주문 번호가 사전 순으로 뒤에 온다.")
+    @Test
+    void generateInOrder() {
+        // given
+        OrderNumberGenerator generator = new OrderNumberGenerator(0);
+
+        // when
+        String first = generator.generate();
+        String second = generator.generate();
+
+        // then
+        assertThat(first).hasSize(13);
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @DisplayName("[예외 케이스] 서버 번호가 범위를 벗어나면 예외가 발생한다.")
+    @Test
+    void createWithInvalidNodeId() {
+        assertThatThrownBy(() -> new OrderNumberGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
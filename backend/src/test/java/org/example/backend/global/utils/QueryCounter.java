@@ -0,0 +1,24 @@
+package org.example.backend.global.utils;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * 테스트에서 실행된 SQL 개수를 세는 도구 (N+1 회귀 확인용)
+ * Hibernate 통계를 사용하므로 JPA / Querydsl 로 실행한 쿼리만 집계
+ */
+public class QueryCounter {
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public long count(Runnable action) {
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}